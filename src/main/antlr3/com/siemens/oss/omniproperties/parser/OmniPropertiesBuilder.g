@@ -105,6 +105,7 @@ include
   ^(INCLUDE e=expression)
   
    {
+    final Profiler.Section section = Profiler.section("include ", $e.value);
     try {
     	if ($e.value instanceof File) {
     		properties.readFromFile((File) $e.value);
@@ -126,6 +127,8 @@ include
     	}
     } catch (Exception ex) {
     	throw new ParseException($INCLUDE, ex);
+    } finally {
+    	section.close();
     }
    }
   ;
@@ -294,14 +297,50 @@ final Map<String, Object> setterArgs = new HashMap<String, Object>();
    )
   
    {
+    final Profiler.Section builderSection = Profiler.section("new ", $BUILDER.text);
     try {
-    	$value = ReflectionUtil.newInstanceOf($BUILDER.text, args.toArray());
-    	ReflectionUtil.inject(setterArgs, $value);
-    	properties.getValidator().validate($value);
-    	ReflectionUtil.init($value);
-    	$value = ReflectionUtil.buildIfBuilder($value);
+    	final Object[] arguments = args.toArray();
+    	final Object internKey = setterArgs.isEmpty() ? ReflectionUtil.internKey($BUILDER.text, arguments) : null;
+    	$value = internKey == null ? null : ReflectionUtil.interned(properties, internKey);
+    	if ($value == null) {
+    		Profiler.Section section = Profiler.section("construct");
+    		try {
+    			$value = ReflectionUtil.newInstanceOf($BUILDER.text, arguments);
+    		} finally {
+    			section.close();
+    		}
+    		section = Profiler.section("inject");
+    		try {
+    			ReflectionUtil.inject(setterArgs, $value);
+    		} finally {
+    			section.close();
+    		}
+    		section = Profiler.section("validate");
+    		try {
+    			properties.getValidator().validate($value);
+    		} finally {
+    			section.close();
+    		}
+    		section = Profiler.section("init");
+    		try {
+    			ReflectionUtil.init($value);
+    		} finally {
+    			section.close();
+    		}
+    		section = Profiler.section("build");
+    		try {
+    			$value = ReflectionUtil.buildIfBuilder($value);
+    		} finally {
+    			section.close();
+    		}
+    		if (internKey != null) {
+    			$value = ReflectionUtil.intern(properties, internKey, $value);
+    		}
+    	}
     } catch (Exception exc) {
     	throw new ParseException($BUILDER, exc);
+    } finally {
+    	builderSection.close();
     }
    }
   ;
@@ -0,0 +1,322 @@
+/*
+* Copyright Siemens AG, 2026
+*
+* Licensed under the Apache License, Version 2.0 the "License";
+* you may not use this file except in compliance with the License.
+* You may obtain a copy of the License at
+*
+* http://www.apache.org/licenses/LICENSE-2.0
+*
+* Unless required by applicable law or agreed to in writing, software
+* distributed under the License is distributed on an "AS IS" BASIS,
+* WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+* See the License for the specific language governing permissions and
+* limitations under the License.
+*/
+
+package com.siemens.oss.omniproperties;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map.Entry;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * {@link OmniPropertyObserver} counting accesses per key and kind of access
+ * to find hot and dead keys. Counters are {@link LongAdder}s, so the observer
+ * may stay active under multithreaded load.
+ *
+ * Besides the access kinds, it counts how often a default value was returned
+ * (<code>DEFAULT_TAKEN</code>) and how often an absent key was requested
+ * (<code>MISS</code>).
+ *
+ * Usage: <code>ObservableOmniProperties.wrap(properties, statistics)</code>
+ */
+public final class AccessStatisticsObserver extends AOmniPropertyObserver {
+
+	/**
+	 * Kinds of counted accesses
+	 */
+	public enum Access {
+		GET, GET_INT, GET_LONG, GET_FLOAT, GET_DOUBLE, GET_STRING, GET_BOOLEAN, GET_OBJECT, CONTAINS_KEY,
+		CONTAINS_INT, CONTAINS_LONG, CONTAINS_FLOAT, CONTAINS_DOUBLE, CONTAINS_STRING, CONTAINS_BOOLEAN,
+		CONTAINS_OBJECT, DEFAULT_TAKEN, MISS
+	}
+
+	private static final Access[] ACCESSES = Access.values();
+
+	private final ConcurrentMap<String, LongAdder[]> counters = new ConcurrentHashMap<>();
+	private volatile OmniProperties properties;
+
+	/**
+	 * Counts of one key at the time of the snapshot
+	 */
+	public static final class KeyStatistics {
+		private final String key;
+		private final long[] counts;
+		private final long total;
+
+		private KeyStatistics(final String key, final LongAdder[] adders) {
+			this.key = key;
+			this.counts = new long[adders.length];
+			long sum = 0;
+			for (int i = 0; i < adders.length; i++) {
+				counts[i] = adders[i].sum();
+				if (i < Access.DEFAULT_TAKEN.ordinal()) {
+					sum += counts[i];
+				}
+			}
+			this.total = sum;
+		}
+
+		public String getKey() {
+			return key;
+		}
+
+		public long getCount(final Access access) {
+			return counts[access.ordinal()];
+		}
+
+		/**
+		 * @return number of accesses, excluding <code>DEFAULT_TAKEN</code> and
+		 *         <code>MISS</code> which are counted on top of an access
+		 */
+		public long getTotal() {
+			return total;
+		}
+
+		@Override
+		public String toString() {
+			final StringBuilder builder = new StringBuilder(key).append(": ").append(total);
+			for (Access access : ACCESSES) {
+				if (counts[access.ordinal()] != 0) {
+					builder.append(' ').append(access).append('=').append(counts[access.ordinal()]);
+				}
+			}
+			return builder.toString();
+		}
+	}
+
+	@Override
+	public void setOmniproperties(final OmniProperties properties) {
+		this.properties = properties;
+	}
+
+	/**
+	 * @param limit
+	 *            maximum number of keys returned
+	 * @return the most accessed keys, most accessed first
+	 */
+	public List<KeyStatistics> getTopKeys(final int limit) {
+		final List<KeyStatistics> snapshot = getStatistics();
+		Collections.sort(snapshot, new Comparator<KeyStatistics>() {
+			@Override
+			public int compare(KeyStatistics a, KeyStatistics b) {
+				return Long.compare(b.getTotal(), a.getTotal());
+			}
+		});
+		return snapshot.subList(0, Math.min(limit, snapshot.size()));
+	}
+
+	/**
+	 * @return counts of all accessed keys, in no particular order
+	 */
+	public List<KeyStatistics> getStatistics() {
+		final List<KeyStatistics> snapshot = new ArrayList<>(counters.size());
+		for (Entry<String, LongAdder[]> entry : counters.entrySet()) {
+			snapshot.add(new KeyStatistics(entry.getKey(), entry.getValue()));
+		}
+		return snapshot;
+	}
+
+	/**
+	 * @param key
+	 * @return counts of the key, null if it was never accessed
+	 */
+	public KeyStatistics getStatistics(final String key) {
+		final LongAdder[] adders = counters.get(key);
+		return adders == null ? null : new KeyStatistics(key, adders);
+	}
+
+	/**
+	 * @return keys of the observed properties which were never accessed, sorted
+	 */
+	public Set<String> getNeverReadKeys() {
+		final Set<String> neverRead = new TreeSet<>();
+		final OmniProperties observed = properties;
+		if (observed == null) {
+			return neverRead;
+		}
+		for (String key : observed.keySet()) {
+			final LongAdder[] adders = counters.get(key);
+			if (adders == null || new KeyStatistics(key, adders).getTotal() == 0) {
+				neverRead.add(key);
+			}
+		}
+		return neverRead;
+	}
+
+	/**
+	 * Resets all counters.
+	 */
+	public void reset() {
+		counters.clear();
+	}
+
+	private LongAdder[] countersOf(final String key) {
+		LongAdder[] adders = counters.get(key);
+		if (adders == null) {
+			final LongAdder[] created = new LongAdder[ACCESSES.length];
+			for (int i = 0; i < created.length; i++) {
+				created[i] = new LongAdder();
+			}
+			adders = counters.putIfAbsent(key, created);
+			if (adders == null) {
+				adders = created;
+			}
+		}
+		return adders;
+	}
+
+	private boolean isPresent(final Object key) {
+		final OmniProperties observed = properties;
+		return observed == null || observed.containsKey(key);
+	}
+
+	private void count(final Object key, final Access access) {
+		final LongAdder[] adders = countersOf(String.valueOf(key));
+		adders[access.ordinal()].increment();
+		if (!isPresent(key)) {
+			adders[Access.MISS.ordinal()].increment();
+		}
+	}
+
+	private void countWithDefault(final Object key, final Access access) {
+		final LongAdder[] adders = countersOf(String.valueOf(key));
+		adders[access.ordinal()].increment();
+		if (!isPresent(key)) {
+			adders[Access.DEFAULT_TAKEN.ordinal()].increment();
+		}
+	}
+
+	@Override
+	public void get(Object key) {
+		count(key, Access.GET);
+	}
+
+	@Override
+	public void getInt(String key) {
+		count(key, Access.GET_INT);
+	}
+
+	@Override
+	public void getInt(String key, int def) {
+		countWithDefault(key, Access.GET_INT);
+	}
+
+	@Override
+	public void getLong(String key) {
+		count(key, Access.GET_LONG);
+	}
+
+	@Override
+	public void getLong(String key, long def) {
+		countWithDefault(key, Access.GET_LONG);
+	}
+
+	@Override
+	public void getFloat(String key) {
+		count(key, Access.GET_FLOAT);
+	}
+
+	@Override
+	public void getFloat(String key, float def) {
+		countWithDefault(key, Access.GET_FLOAT);
+	}
+
+	@Override
+	public void getDouble(String key) {
+		count(key, Access.GET_DOUBLE);
+	}
+
+	@Override
+	public void getDouble(String key, double def) {
+		countWithDefault(key, Access.GET_DOUBLE);
+	}
+
+	@Override
+	public void getString(String key) {
+		count(key, Access.GET_STRING);
+	}
+
+	@Override
+	public void getString(String key, String def) {
+		countWithDefault(key, Access.GET_STRING);
+	}
+
+	@Override
+	public void getBoolean(String key) {
+		count(key, Access.GET_BOOLEAN);
+	}
+
+	@Override
+	public void getBoolean(String key, boolean def) {
+		countWithDefault(key, Access.GET_BOOLEAN);
+	}
+
+	@Override
+	public void getObject(String key, Class<?> type) {
+		count(key, Access.GET_OBJECT);
+	}
+
+	@Override
+	public void getObject(String key, Object def, Class<?> type) {
+		countWithDefault(key, Access.GET_OBJECT);
+	}
+
+	@Override
+	public void containsKey(Object key) {
+		count(key, Access.CONTAINS_KEY);
+	}
+
+	@Override
+	public void containsInt(String key) {
+		count(key, Access.CONTAINS_INT);
+	}
+
+	@Override
+	public void containsLong(String key) {
+		count(key, Access.CONTAINS_LONG);
+	}
+
+	@Override
+	public void containsFloat(String key) {
+		count(key, Access.CONTAINS_FLOAT);
+	}
+
+	@Override
+	public void containsDouble(String key) {
+		count(key, Access.CONTAINS_DOUBLE);
+	}
+
+	@Override
+	public void containsString(String key) {
+		count(key, Access.CONTAINS_STRING);
+	}
+
+	@Override
+	public void containsBoolean(String key) {
+		count(key, Access.CONTAINS_BOOLEAN);
+	}
+
+	@Override
+	public void containsObject(String key, Class<?> type) {
+		count(key, Access.CONTAINS_OBJECT);
+	}
+}
@@ -0,0 +1,599 @@
+/*
+* Copyright Siemens AG, 2026
+*
+* Licensed under the Apache License, Version 2.0 the "License";
+* you may not use this file except in compliance with the License.
+* You may obtain a copy of the License at
+*
+* http://www.apache.org/licenses/LICENSE-2.0
+*
+* Unless required by applicable law or agreed to in writing, software
+* distributed under the License is distributed on an "AS IS" BASIS,
+* WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+* See the License for the specific language governing permissions and
+* limitations under the License.
+*/
+
+package com.siemens.oss.omniproperties;
+
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.io.InputStream;
+import java.net.URL;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.locks.LockSupport;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * {@link OmniPropertyObserver} which takes observation off the caller's
+ * thread. Events are written into a preallocated, lock-free ring buffer and
+ * replayed in batches to a delegate observer by a background thread. The
+ * delegate is therefore only called from a single thread.
+ *
+ * If the buffer is full, events are either dropped (see
+ * <code>getDroppedCount()</code>) or the caller waits for free space,
+ * depending on the {@link OverflowPolicy}. Events published after
+ * <code>close()</code> are dropped as well (see
+ * <code>getDroppedAfterCloseCount()</code>).
+ *
+ * When idle, the background thread parks until the next event is published.
+ *
+ * As events are replayed after the fact, <code>putAll</code> passes a copy of
+ * the map to the delegate, and <code>readFromStream</code> passes an empty
+ * stream: the original stream has been read by the time the event is replayed.
+ *
+ * Usage: <code>AsyncOmniPropertyObserver.wrap(properties, new LoggingOverserver())</code>
+ */
+public final class AsyncOmniPropertyObserver implements OmniPropertyObserver, AutoCloseable {
+
+	public static final int DEFAULT_CAPACITY = 8192;
+
+	private static final Logger LOG = LoggerFactory.getLogger(AsyncOmniPropertyObserver.class);
+	private static final long FLUSH_PARK_NANOS = TimeUnit.MICROSECONDS.toNanos(500);
+	private static final int SPINS = 64;
+	/**
+	 * value of <code>tail</code> once the background thread has terminated
+	 */
+	private static final long CLOSED = Long.MAX_VALUE;
+
+	/**
+	 * What to do if the ring buffer is full.
+	 */
+	public enum OverflowPolicy {
+		/**
+		 * discard the event
+		 */
+		DROP,
+		/**
+		 * wait until the background thread frees a slot
+		 */
+		BLOCK
+	}
+
+	private enum Kind {
+		CLEAR, GET_INT, GET_INT_DEF, GET_LONG, GET_LONG_DEF, GET_FLOAT, GET_FLOAT_DEF, GET_DOUBLE, GET_DOUBLE_DEF,
+		GET_STRING, GET_STRING_DEF, GET_BOOLEAN, GET_BOOLEAN_DEF, GET_OBJECT, GET_OBJECT_DEF, GET, CONTAINS_STRING,
+		CONTAINS_INT, CONTAINS_LONG, CONTAINS_FLOAT, CONTAINS_DOUBLE, CONTAINS_BOOLEAN, CONTAINS_OBJECT,
+		CONTAINS_KEY, CONTAINS_VALUE, KEY_SET, PUT, PUT_ALL, REMOVE, READ_FROM_STREAM, READ_FROM_FILE,
+		READ_FROM_FILE_NAME, READ_FROM_RESOURCE, READ_FROM_STRING, READ_FROM_URL
+	}
+
+	/**
+	 * A slot of the ring buffer. Owned by the producer between claiming and
+	 * publishing and by the consumer between reading and releasing.
+	 */
+	private static final class Event {
+		private Kind kind;
+		private Object key;
+		private Object value;
+		private Class<?> type;
+		private long number;
+		private double real;
+
+		private void clear() {
+			key = null;
+			value = null;
+			type = null;
+		}
+	}
+
+	private final OmniPropertyObserver delegate;
+	private final OverflowPolicy policy;
+	private final int mask;
+	private final Event[] events;
+	/**
+	 * sequence per slot: equals the producer position if free, position + 1
+	 * if published
+	 */
+	private final AtomicLongArray sequences;
+	private final AtomicLong tail = new AtomicLong();
+	private final AtomicLong consumed = new AtomicLong();
+	private final AtomicLong dropped = new AtomicLong();
+	private final AtomicLong droppedAfterClose = new AtomicLong();
+	private final Thread consumer;
+	private volatile boolean running = true;
+	/**
+	 * true while the background thread is parked or about to park
+	 */
+	private volatile boolean waiting;
+
+	public AsyncOmniPropertyObserver(final OmniPropertyObserver delegate) {
+		this(delegate, DEFAULT_CAPACITY, OverflowPolicy.DROP);
+	}
+
+	/**
+	 * @param delegate
+	 *            observer called from the background thread
+	 * @param capacity
+	 *            size of the ring buffer. Rounded up to a power of two.
+	 * @param policy
+	 *            what to do if the ring buffer is full
+	 */
+	public AsyncOmniPropertyObserver(final OmniPropertyObserver delegate, final int capacity,
+			final OverflowPolicy policy) {
+		if (capacity < 2 || capacity > 1 << 30) {
+			throw new IllegalArgumentException("capacity must be between 2 and 2^30");
+		}
+		this.delegate = delegate;
+		this.policy = policy;
+		final int size = Integer.highestOneBit(capacity - 1) << 1;
+		this.mask = size - 1;
+		this.events = new Event[size];
+		this.sequences = new AtomicLongArray(size);
+		for (int i = 0; i < size; i++) {
+			events[i] = new Event();
+			sequences.set(i, i);
+		}
+		consumer = new Thread(new Runnable() {
+			@Override
+			public void run() {
+				consume();
+			}
+		}, "omniproperties-observer");
+		consumer.setDaemon(true);
+		consumer.start();
+	}
+
+	public static OmniProperties wrap(final OmniProperties properties, final OmniPropertyObserver observer) {
+		return ObservableOmniProperties.wrap(properties, new AsyncOmniPropertyObserver(observer));
+	}
+
+	/**
+	 * @return number of events discarded because the buffer was full
+	 */
+	public long getDroppedCount() {
+		return dropped.get();
+	}
+
+	/**
+	 * @return number of events discarded because they were published after
+	 *         <code>close()</code>
+	 */
+	public long getDroppedAfterCloseCount() {
+		return droppedAfterClose.get();
+	}
+
+	/**
+	 * Waits until all events published so far have been passed to the
+	 * delegate.
+	 */
+	public void flush() {
+		final long published = tail.get();
+		while (consumed.get() < published && consumer.isAlive()) {
+			LockSupport.parkNanos(FLUSH_PARK_NANOS);
+		}
+	}
+
+	/**
+	 * Passes all pending events to the delegate and stops the background
+	 * thread.
+	 */
+	@Override
+	public void close() {
+		running = false;
+		LockSupport.unpark(consumer);
+		try {
+			consumer.join();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+
+	/**
+	 * @return the claimed position, -1 if the event is dropped
+	 */
+	private long claim() {
+		int spins = 0;
+		while (true) {
+			final long position = tail.get();
+			if (position == CLOSED) {
+				if (droppedAfterClose.getAndIncrement() == 0) {
+					LOG.warn("Events published after close() are dropped.");
+				}
+				return -1;
+			}
+			final long sequence = sequences.get((int) position & mask);
+			if (sequence == position) {
+				if (tail.compareAndSet(position, position + 1)) {
+					return position;
+				}
+			} else if (sequence < position) {
+				if (policy == OverflowPolicy.DROP || !running) {
+					dropped.incrementAndGet();
+					return -1;
+				}
+				if (++spins < SPINS) {
+					Thread.yield();
+				} else {
+					LockSupport.parkNanos(1);
+				}
+			}
+		}
+	}
+
+	private void publish(final Kind kind, final Object key, final Object value, final Class<?> type,
+			final long number, final double real) {
+		final long position = claim();
+		if (position < 0) {
+			return;
+		}
+		final int index = (int) position & mask;
+		final Event event = events[index];
+		event.kind = kind;
+		event.key = key;
+		event.value = value;
+		event.type = type;
+		event.number = number;
+		event.real = real;
+		// volatile write, ordered before the read of waiting
+		sequences.set(index, position + 1);
+		if (waiting) {
+			LockSupport.unpark(consumer);
+		}
+	}
+
+	private void publish(final Kind kind, final Object key) {
+		publish(kind, key, null, null, 0, 0);
+	}
+
+	private void consume() {
+		long position = 0;
+		int idle = 0;
+		while (true) {
+			final int index = (int) position & mask;
+			if (sequences.get(index) == position + 1) {
+				final Event event = events[index];
+				replay(event);
+				event.clear();
+				sequences.lazySet(index, position + events.length);
+				position++;
+				consumed.lazySet(position);
+				idle = 0;
+			} else if (!running) {
+				if (tail.compareAndSet(position, CLOSED)) {
+					return;
+				}
+				// wait for an event claimed before close()
+				Thread.yield();
+			} else if (++idle < SPINS) {
+				Thread.yield();
+			} else {
+				waiting = true;
+				if (sequences.get(index) != position + 1 && running) {
+					LockSupport.park(this);
+				}
+				waiting = false;
+			}
+		}
+	}
+
+	private void replay(final Event event) {
+		try {
+			dispatch(event);
+		} catch (RuntimeException e) {
+			LOG.warn("Observer failed on event " + event.kind, e);
+		}
+	}
+
+	private void dispatch(final Event event) {
+		final String key = event.key instanceof String ? (String) event.key : null;
+		switch (event.kind) {
+		case CLEAR:
+			delegate.clear();
+			break;
+		case GET_INT:
+			delegate.getInt(key);
+			break;
+		case GET_INT_DEF:
+			delegate.getInt(key, (int) event.number);
+			break;
+		case GET_LONG:
+			delegate.getLong(key);
+			break;
+		case GET_LONG_DEF:
+			delegate.getLong(key, event.number);
+			break;
+		case GET_FLOAT:
+			delegate.getFloat(key);
+			break;
+		case GET_FLOAT_DEF:
+			delegate.getFloat(key, (float) event.real);
+			break;
+		case GET_DOUBLE:
+			delegate.getDouble(key);
+			break;
+		case GET_DOUBLE_DEF:
+			delegate.getDouble(key, event.real);
+			break;
+		case GET_STRING:
+			delegate.getString(key);
+			break;
+		case GET_STRING_DEF:
+			delegate.getString(key, (String) event.value);
+			break;
+		case GET_BOOLEAN:
+			delegate.getBoolean(key);
+			break;
+		case GET_BOOLEAN_DEF:
+			delegate.getBoolean(key, event.number != 0);
+			break;
+		case GET_OBJECT:
+			delegate.getObject(key, event.type);
+			break;
+		case GET_OBJECT_DEF:
+			delegate.getObject(key, event.value, event.type);
+			break;
+		case GET:
+			delegate.get(event.key);
+			break;
+		case CONTAINS_STRING:
+			delegate.containsString(key);
+			break;
+		case CONTAINS_INT:
+			delegate.containsInt(key);
+			break;
+		case CONTAINS_LONG:
+			delegate.containsLong(key);
+			break;
+		case CONTAINS_FLOAT:
+			delegate.containsFloat(key);
+			break;
+		case CONTAINS_DOUBLE:
+			delegate.containsDouble(key);
+			break;
+		case CONTAINS_BOOLEAN:
+			delegate.containsBoolean(key);
+			break;
+		case CONTAINS_OBJECT:
+			delegate.containsObject(key, event.type);
+			break;
+		case CONTAINS_KEY:
+			delegate.containsKey(event.key);
+			break;
+		case CONTAINS_VALUE:
+			delegate.containsValue(event.value);
+			break;
+		case KEY_SET:
+			delegate.keySet();
+			break;
+		case PUT:
+			delegate.put(key, event.value);
+			break;
+		case PUT_ALL:
+			@SuppressWarnings("unchecked")
+			final Map<? extends String, ? extends Object> map = (Map<? extends String, ? extends Object>) event.value;
+			delegate.putAll(map);
+			break;
+		case REMOVE:
+			delegate.remove(event.key);
+			break;
+		case READ_FROM_STREAM:
+			delegate.readFromStream(new ByteArrayInputStream(new byte[0]));
+			break;
+		case READ_FROM_FILE:
+			delegate.readFromFile((File) event.value);
+			break;
+		case READ_FROM_FILE_NAME:
+			delegate.readFromFile((String) event.value);
+			break;
+		case READ_FROM_RESOURCE:
+			delegate.readFromResource((String) event.value);
+			break;
+		case READ_FROM_STRING:
+			delegate.readFromString((String) event.value);
+			break;
+		case READ_FROM_URL:
+			delegate.readFromUrl((URL) event.value);
+			break;
+		default:
+			throw new IllegalStateException("unknown event " + event.kind);
+		}
+	}
+
+	@Override
+	public void setOmniproperties(OmniProperties properties) {
+		delegate.setOmniproperties(properties);
+	}
+
+	@Override
+	public void clear() {
+		publish(Kind.CLEAR, null);
+	}
+
+	@Override
+	public void getInt(String key) {
+		publish(Kind.GET_INT, key);
+	}
+
+	@Override
+	public void getInt(String key, int def) {
+		publish(Kind.GET_INT_DEF, key, null, null, def, 0);
+	}
+
+	@Override
+	public void getLong(String key) {
+		publish(Kind.GET_LONG, key);
+	}
+
+	@Override
+	public void getLong(String key, long def) {
+		publish(Kind.GET_LONG_DEF, key, null, null, def, 0);
+	}
+
+	@Override
+	public void getFloat(String key) {
+		publish(Kind.GET_FLOAT, key);
+	}
+
+	@Override
+	public void getFloat(String key, float def) {
+		publish(Kind.GET_FLOAT_DEF, key, null, null, 0, def);
+	}
+
+	@Override
+	public void getDouble(String key) {
+		publish(Kind.GET_DOUBLE, key);
+	}
+
+	@Override
+	public void getDouble(String key, double def) {
+		publish(Kind.GET_DOUBLE_DEF, key, null, null, 0, def);
+	}
+
+	@Override
+	public void getString(String key) {
+		publish(Kind.GET_STRING, key);
+	}
+
+	@Override
+	public void getString(String key, String def) {
+		publish(Kind.GET_STRING_DEF, key, def, null, 0, 0);
+	}
+
+	@Override
+	public void getBoolean(String key) {
+		publish(Kind.GET_BOOLEAN, key);
+	}
+
+	@Override
+	public void getBoolean(String key, boolean def) {
+		publish(Kind.GET_BOOLEAN_DEF, key, null, null, def ? 1 : 0, 0);
+	}
+
+	@Override
+	public void getObject(String key, Class<?> type) {
+		publish(Kind.GET_OBJECT, key, null, type, 0, 0);
+	}
+
+	@Override
+	public void getObject(String key, Object def, Class<?> type) {
+		publish(Kind.GET_OBJECT_DEF, key, def, type, 0, 0);
+	}
+
+	@Override
+	public void get(Object key) {
+		publish(Kind.GET, key);
+	}
+
+	@Override
+	public void containsString(String key) {
+		publish(Kind.CONTAINS_STRING, key);
+	}
+
+	@Override
+	public void containsInt(String key) {
+		publish(Kind.CONTAINS_INT, key);
+	}
+
+	@Override
+	public void containsLong(String key) {
+		publish(Kind.CONTAINS_LONG, key);
+	}
+
+	@Override
+	public void containsFloat(String key) {
+		publish(Kind.CONTAINS_FLOAT, key);
+	}
+
+	@Override
+	public void containsDouble(String key) {
+		publish(Kind.CONTAINS_DOUBLE, key);
+	}
+
+	@Override
+	public void containsBoolean(String key) {
+		publish(Kind.CONTAINS_BOOLEAN, key);
+	}
+
+	@Override
+	public void containsObject(String key, Class<?> type) {
+		publish(Kind.CONTAINS_OBJECT, key, null, type, 0, 0);
+	}
+
+	@Override
+	public void containsKey(Object key) {
+		publish(Kind.CONTAINS_KEY, key);
+	}
+
+	@Override
+	public void containsValue(Object value) {
+		publish(Kind.CONTAINS_VALUE, null, value, null, 0, 0);
+	}
+
+	@Override
+	public void keySet() {
+		publish(Kind.KEY_SET, null);
+	}
+
+	@Override
+	public void put(String key, Object value) {
+		publish(Kind.PUT, key, value, null, 0, 0);
+	}
+
+	@Override
+	public void putAll(Map<? extends String, ? extends Object> m) {
+		// the caller may change the map before the event is replayed
+		publish(Kind.PUT_ALL, null, new HashMap<String, Object>(m), null, 0, 0);
+	}
+
+	@Override
+	public void remove(Object key) {
+		publish(Kind.REMOVE, key);
+	}
+
+	@Override
+	public void readFromStream(InputStream input) {
+		publish(Kind.READ_FROM_STREAM, null, null, null, 0, 0);
+	}
+
+	@Override
+	public void readFromFile(File file) {
+		publish(Kind.READ_FROM_FILE, null, file, null, 0, 0);
+	}
+
+	@Override
+	public void readFromFile(String string) {
+		publish(Kind.READ_FROM_FILE_NAME, null, string, null, 0, 0);
+	}
+
+	@Override
+	public void readFromResource(String string) {
+		publish(Kind.READ_FROM_RESOURCE, null, string, null, 0, 0);
+	}
+
+	@Override
+	public void readFromString(String string) {
+		publish(Kind.READ_FROM_STRING, null, string, null, 0, 0);
+	}
+
+	@Override
+	public void readFromUrl(URL url) {
+		publish(Kind.READ_FROM_URL, null, url, null, 0, 0);
+	}
+}
@@ -0,0 +1,428 @@
+/*
+* Copyright Siemens AG, 2026
+*
+* Licensed under the Apache License, Version 2.0 the "License";
+* you may not use this file except in compliance with the License.
+* You may obtain a copy of the License at
+*
+* http://www.apache.org/licenses/LICENSE-2.0
+*
+* Unless required by applicable law or agreed to in writing, software
+* distributed under the License is distributed on an "AS IS" BASIS,
+* WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+* See the License for the specific language governing permissions and
+* limitations under the License.
+*/
+
+package com.siemens.oss.omniproperties;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URL;
+import java.nio.file.Path;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import com.siemens.oss.omniproperties.exceptions.PropertyNotFoundException;
+
+/**
+ * Wraps {@link OmniProperties} and caches the results of typed reads per key
+ * and type. Meant as the outermost wrapper of a stack such as
+ * <code>CachingOmniProperties.wrap(LockableOmniProperties.wrap(ObservableOmniProperties.wrap(scoped, observer)))</code>:
+ * a repeated read costs one lookup, no matter how deep the stack is. Note that
+ * the observer is only notified of reads which miss the cache.
+ *
+ * The cache is invalidated by <code>put</code>, <code>remove</code>,
+ * <code>clear</code> and <code>readFrom*</code> of this wrapper. Changes which
+ * bypass it (e.g. to the wrapped properties or to the parent of a
+ * {@link ScopedOmniProperties}) require a call to <code>invalidate()</code>.
+ */
+public final class CachingOmniProperties extends OmniProperties {
+
+	private static final long serialVersionUID = 1L;
+
+	/**
+	 * cached for keys which are absent
+	 */
+	private static final Object MISSING = new Object();
+
+	private enum Kind {
+		INT {
+			@Override
+			Object resolve(final OmniProperties properties, final String key) {
+				return Integer.valueOf(properties.getInt(key));
+			}
+		},
+		LONG {
+			@Override
+			Object resolve(final OmniProperties properties, final String key) {
+				return Long.valueOf(properties.getLong(key));
+			}
+		},
+		FLOAT {
+			@Override
+			Object resolve(final OmniProperties properties, final String key) {
+				return Float.valueOf(properties.getFloat(key));
+			}
+		},
+		DOUBLE {
+			@Override
+			Object resolve(final OmniProperties properties, final String key) {
+				return Double.valueOf(properties.getDouble(key));
+			}
+		},
+		STRING {
+			@Override
+			Object resolve(final OmniProperties properties, final String key) {
+				return properties.getString(key);
+			}
+		},
+		BOOLEAN {
+			@Override
+			Object resolve(final OmniProperties properties, final String key) {
+				return Boolean.valueOf(properties.getBoolean(key));
+			}
+		};
+
+		abstract Object resolve(OmniProperties properties, String key);
+	}
+
+	private static final class Entry {
+		private final long version;
+		private final Object value;
+
+		Entry(final long version, final Object value) {
+			this.version = version;
+			this.value = value;
+		}
+	}
+
+	private final OmniProperties properties;
+	private final AtomicLong version = new AtomicLong();
+	private final ConcurrentMap<String, Entry>[] typedCaches;
+	/**
+	 * one cache per type, so reading a key as different types does not evict
+	 */
+	private final ConcurrentMap<Class<?>, ConcurrentMap<String, Entry>> objectCaches = new ConcurrentHashMap<>();
+
+	@SuppressWarnings("unchecked")
+	private CachingOmniProperties(final OmniProperties properties) {
+		this.properties = properties;
+		this.typedCaches = new ConcurrentMap[Kind.values().length];
+		for (int i = 0; i < typedCaches.length; i++) {
+			typedCaches[i] = new ConcurrentHashMap<>();
+		}
+	}
+
+	public static CachingOmniProperties wrap(final OmniProperties properties) {
+		return new CachingOmniProperties(properties);
+	}
+
+	/**
+	 * Discards all cached values.
+	 */
+	public void invalidate() {
+		version.incrementAndGet();
+		for (ConcurrentMap<String, Entry> cache : typedCaches) {
+			cache.clear();
+		}
+		objectCaches.clear();
+	}
+
+	/**
+	 * @return the cached value, {@link #MISSING} if the key is absent
+	 */
+	private Object lookup(final Kind kind, final String key) {
+		final ConcurrentMap<String, Entry> cache = typedCaches[kind.ordinal()];
+		final long current = version.get();
+		final Entry entry = cache.get(key);
+		if (entry != null && entry.version == current) {
+			return entry.value;
+		}
+		Object value;
+		try {
+			value = kind.resolve(properties, key);
+		} catch (PropertyNotFoundException e) {
+			value = MISSING;
+		}
+		cache.put(key, new Entry(current, value));
+		return value;
+	}
+
+	private Object lookup(final String key, final Class<?> type) {
+		ConcurrentMap<String, Entry> cache = objectCaches.get(type);
+		if (cache == null) {
+			final ConcurrentMap<String, Entry> created = new ConcurrentHashMap<>();
+			cache = objectCaches.putIfAbsent(type, created);
+			if (cache == null) {
+				cache = created;
+			}
+		}
+		final long current = version.get();
+		final Entry entry = cache.get(key);
+		if (entry != null && entry.version == current) {
+			return entry.value;
+		}
+		Object value = properties.getObject(key, null, type);
+		if (value == null) {
+			value = MISSING;
+		}
+		cache.put(key, new Entry(current, value));
+		return value;
+	}
+
+	private void changed() {
+		version.incrementAndGet();
+	}
+
+	public int getInt(String key) {
+		final Object value = lookup(Kind.INT, key);
+		return value == MISSING ? properties.getInt(key) : ((Integer) value).intValue();
+	}
+
+	public int getInt(String key, int def) {
+		final Object value = lookup(Kind.INT, key);
+		return value == MISSING ? def : ((Integer) value).intValue();
+	}
+
+	public long getLong(String key) {
+		final Object value = lookup(Kind.LONG, key);
+		return value == MISSING ? properties.getLong(key) : ((Long) value).longValue();
+	}
+
+	public long getLong(String key, long def) {
+		final Object value = lookup(Kind.LONG, key);
+		return value == MISSING ? def : ((Long) value).longValue();
+	}
+
+	public float getFloat(String key) {
+		final Object value = lookup(Kind.FLOAT, key);
+		return value == MISSING ? properties.getFloat(key) : ((Float) value).floatValue();
+	}
+
+	public float getFloat(String key, float def) {
+		final Object value = lookup(Kind.FLOAT, key);
+		return value == MISSING ? def : ((Float) value).floatValue();
+	}
+
+	public double getDouble(String key) {
+		final Object value = lookup(Kind.DOUBLE, key);
+		return value == MISSING ? properties.getDouble(key) : ((Double) value).doubleValue();
+	}
+
+	public double getDouble(String key, double def) {
+		final Object value = lookup(Kind.DOUBLE, key);
+		return value == MISSING ? def : ((Double) value).doubleValue();
+	}
+
+	public String getString(String key) {
+		final Object value = lookup(Kind.STRING, key);
+		return value == MISSING ? properties.getString(key) : (String) value;
+	}
+
+	public String getString(String key, String def) {
+		final Object value = lookup(Kind.STRING, key);
+		return value == MISSING ? def : (String) value;
+	}
+
+	public boolean getBoolean(String key) {
+		final Object value = lookup(Kind.BOOLEAN, key);
+		return value == MISSING ? properties.getBoolean(key) : ((Boolean) value).booleanValue();
+	}
+
+	public boolean getBoolean(String key, boolean def) {
+		final Object value = lookup(Kind.BOOLEAN, key);
+		return value == MISSING ? def : ((Boolean) value).booleanValue();
+	}
+
+	public <T> T getObject(String key, Class<T> type) {
+		final Object value = lookup(key, type);
+		return value == MISSING ? properties.getObject(key, type) : type.cast(value);
+	}
+
+	public <T> T getObject(String key, T def, Class<T> type) {
+		final Object value = lookup(key, type);
+		return value == MISSING ? def : type.cast(value);
+	}
+
+	public boolean containsString(String key) {
+		return properties.containsString(key);
+	}
+
+	public boolean containsInt(String key) {
+		return properties.containsInt(key);
+	}
+
+	public boolean containsLong(String key) {
+		return properties.containsLong(key);
+	}
+
+	public boolean containsBoolean(String key) {
+		return properties.containsBoolean(key);
+	}
+
+	public boolean containsDouble(String key) {
+		return properties.containsDouble(key);
+	}
+
+	public boolean containsFloat(String key) {
+		return properties.containsFloat(key);
+	}
+
+	public <T> boolean containsObject(String key, Class<T> type) {
+		return properties.containsObject(key, type);
+	}
+
+	public boolean containsKey(Object key) {
+		return properties.containsKey(key);
+	}
+
+	public boolean containsValue(Object value) {
+		return properties.containsValue(value);
+	}
+
+	public Object get(Object key) {
+		return properties.get(key);
+	}
+
+	public Object put(String key, Object value) {
+		try {
+			return properties.put(key, value);
+		} finally {
+			changed();
+		}
+	}
+
+	public void putAll(Map<? extends String, ? extends Object> m) {
+		try {
+			properties.putAll(m);
+		} finally {
+			changed();
+		}
+	}
+
+	public Object remove(Object key) {
+		try {
+			return properties.remove(key);
+		} finally {
+			changed();
+		}
+	}
+
+	public void clear() {
+		try {
+			properties.clear();
+		} finally {
+			changed();
+		}
+	}
+
+	public int getParallelity() {
+		return properties.getParallelity();
+	}
+
+	public void setParallelity(int parallelity) {
+		properties.setParallelity(parallelity);
+	}
+
+	public OmniProperties readFromStream(InputStream input) throws IOException {
+		try {
+			properties.readFromStream(input);
+			return this;
+		} finally {
+			changed();
+		}
+	}
+
+	public OmniProperties readFromFile(File file) throws IOException {
+		try {
+			properties.readFromFile(file);
+			return this;
+		} finally {
+			changed();
+		}
+	}
+
+	public OmniProperties readFromResource(String string) throws IOException {
+		try {
+			properties.readFromResource(string);
+			return this;
+		} finally {
+			changed();
+		}
+	}
+
+	public OmniProperties readFromFile(String string) throws IOException {
+		try {
+			properties.readFromFile(string);
+			return this;
+		} finally {
+			changed();
+		}
+	}
+
+	public OmniProperties readFromUrl(URL url) throws IOException {
+		try {
+			properties.readFromUrl(url);
+			return this;
+		} finally {
+			changed();
+		}
+	}
+
+	public OmniProperties readFromString(String string) throws IOException {
+		try {
+			properties.readFromString(string);
+			return this;
+		} finally {
+			changed();
+		}
+	}
+
+	public OmniProperties readFromPath(Path path) throws IOException {
+		try {
+			properties.readFromPath(path);
+			return this;
+		} finally {
+			changed();
+		}
+	}
+
+	public Set<java.util.Map.Entry<String, Object>> entrySet() {
+		return Collections.unmodifiableSet(properties.entrySet());
+	}
+
+	public Set<String> keySet() {
+		return Collections.unmodifiableSet(properties.keySet());
+	}
+
+	public Collection<Object> values() {
+		return Collections.unmodifiableCollection(properties.values());
+	}
+
+	public boolean equals(Object obj) {
+		return properties.equals(obj);
+	}
+
+	public int hashCode() {
+		return properties.hashCode();
+	}
+
+	public boolean isEmpty() {
+		return properties.isEmpty();
+	}
+
+	public int size() {
+		return properties.size();
+	}
+
+	public String toString() {
+		return properties.toString();
+	}
+}
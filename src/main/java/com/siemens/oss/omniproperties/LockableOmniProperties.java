@@ -282,6 +282,14 @@ public final class LockableOmniProperties extends OmniProperties implements Read
 		}
 	}
 
+	public int getParallelity() {
+		return properties.getParallelity();
+	}
+
+	public void setParallelity(int parallelity) {
+		properties.setParallelity(parallelity);
+	}
+
 	public OmniProperties readFromStream(InputStream input) throws IOException {
 		try {
 			lock.writeLock().lock();
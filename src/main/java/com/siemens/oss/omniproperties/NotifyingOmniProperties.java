@@ -0,0 +1,478 @@
+/*
+* Copyright Siemens AG, 2026
+*
+* Licensed under the Apache License, Version 2.0 the "License";
+* you may not use this file except in compliance with the License.
+* You may obtain a copy of the License at
+*
+* http://www.apache.org/licenses/LICENSE-2.0
+*
+* Unless required by applicable law or agreed to in writing, software
+* distributed under the License is distributed on an "AS IS" BASIS,
+* WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+* See the License for the specific language governing permissions and
+* limitations under the License.
+*/
+
+package com.siemens.oss.omniproperties;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URL;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.Executor;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Wraps {@link OmniProperties} and notifies {@link OmniPropertyListener}s of
+ * changed keys. Listeners subscribe to an exact key or to a dotted prefix:
+ * prefix <code>db.pool</code> matches <code>db.pool</code>,
+ * <code>db.pool.size</code> and so on, but not <code>db.poolSize</code>.
+ *
+ * All changes of one modification are coalesced: a listener is called once
+ * per <code>put</code>, <code>putAll</code>, <code>remove</code>,
+ * <code>clear</code> or <code>readFrom*</code> with all its changed keys.
+ * Values are compared with {@link java.util.Objects#deepEquals(Object, Object)},
+ * so arrays with equal content are unchanged. Listeners are called on the
+ * executor given to <code>wrap</code>, by default on the modifying thread.
+ *
+ * Subscriptions are held in a trie of key segments. Hence, finding the
+ * listeners of a key depends on the number of its segments, not on the
+ * number of listeners.
+ */
+public final class NotifyingOmniProperties extends OmniProperties {
+
+	private static final long serialVersionUID = 1L;
+	private static final Logger LOG = LoggerFactory.getLogger(NotifyingOmniProperties.class);
+
+	private static final Executor CALLING_THREAD = new Executor() {
+		@Override
+		public void execute(Runnable command) {
+			command.run();
+		}
+	};
+
+	/**
+	 * Handle of a subscription
+	 */
+	public interface Subscription extends AutoCloseable {
+		/**
+		 * Ends the subscription.
+		 */
+		@Override
+		void close();
+	}
+
+	private static final class Node {
+		private final Map<String, Node> children = new HashMap<>();
+		private final List<OmniPropertyListener> exact = new ArrayList<>();
+		private final List<OmniPropertyListener> prefix = new ArrayList<>();
+	}
+
+	private final OmniProperties properties;
+	private final Executor executor;
+	private final Node root = new Node();
+
+	private NotifyingOmniProperties(final OmniProperties properties, final Executor executor) {
+		this.properties = properties;
+		this.executor = executor;
+	}
+
+	public static NotifyingOmniProperties wrap(final OmniProperties properties) {
+		return new NotifyingOmniProperties(properties, CALLING_THREAD);
+	}
+
+	/**
+	 * @param properties
+	 * @param executor
+	 *            executor on which listeners are called
+	 * @return the wrapped properties
+	 */
+	public static NotifyingOmniProperties wrap(final OmniProperties properties, final Executor executor) {
+		return new NotifyingOmniProperties(properties, executor);
+	}
+
+	/**
+	 * Subscribes to changes of one key.
+	 *
+	 * @param key
+	 * @param listener
+	 * @return the subscription
+	 */
+	public Subscription subscribe(final String key, final OmniPropertyListener listener) {
+		return subscribe(key, listener, false);
+	}
+
+	/**
+	 * Subscribes to changes of a key and all keys below it.
+	 *
+	 * @param prefix
+	 *            dotted prefix, e.g. <code>db.pool</code>
+	 * @param listener
+	 * @return the subscription
+	 */
+	public Subscription subscribePrefix(final String prefix, final OmniPropertyListener listener) {
+		return subscribe(prefix, listener, true);
+	}
+
+	private Subscription subscribe(final String key, final OmniPropertyListener listener, final boolean isPrefix) {
+		synchronized (root) {
+			final Node node = nodeOf(key);
+			(isPrefix ? node.prefix : node.exact).add(listener);
+			return new Subscription() {
+				@Override
+				public void close() {
+					synchronized (root) {
+						(isPrefix ? node.prefix : node.exact).remove(listener);
+					}
+				}
+			};
+		}
+	}
+
+	private Node nodeOf(final String key) {
+		Node node = root;
+		for (String segment : key.split("\\.", -1)) {
+			Node child = node.children.get(segment);
+			if (child == null) {
+				child = new Node();
+				node.children.put(segment, child);
+			}
+			node = child;
+		}
+		return node;
+	}
+
+	private void notify(final Collection<String> keys) {
+		if (keys.isEmpty()) {
+			return;
+		}
+		final Map<OmniPropertyListener, Set<String>> notifications = new LinkedHashMap<>();
+		synchronized (root) {
+			for (String key : keys) {
+				collect(key, notifications);
+			}
+		}
+		for (Map.Entry<OmniPropertyListener, Set<String>> notification : notifications.entrySet()) {
+			final OmniPropertyListener listener = notification.getKey();
+			final Set<String> changed = Collections.unmodifiableSet(notification.getValue());
+			executor.execute(new Runnable() {
+				@Override
+				public void run() {
+					try {
+						listener.propertiesChanged(NotifyingOmniProperties.this, changed);
+					} catch (RuntimeException e) {
+						LOG.warn("Listener failed on change of " + changed, e);
+					}
+				}
+			});
+		}
+	}
+
+	private void collect(final String key, final Map<OmniPropertyListener, Set<String>> notifications) {
+		Node node = root;
+		int start = 0;
+		while (node != null) {
+			final int end = key.indexOf('.', start);
+			node = node.children.get(end < 0 ? key.substring(start) : key.substring(start, end));
+			if (node == null) {
+				return;
+			}
+			add(node.prefix, key, notifications);
+			if (end < 0) {
+				add(node.exact, key, notifications);
+				return;
+			}
+			start = end + 1;
+		}
+	}
+
+	private static void add(final List<OmniPropertyListener> listeners, final String key,
+			final Map<OmniPropertyListener, Set<String>> notifications) {
+		for (OmniPropertyListener listener : listeners) {
+			Set<String> keys = notifications.get(listener);
+			if (keys == null) {
+				keys = new TreeSet<>();
+				notifications.put(listener, keys);
+			}
+			keys.add(key);
+		}
+	}
+
+	private Map<String, Object> snapshot() {
+		return new HashMap<>(properties);
+	}
+
+	private static Set<String> diff(final Map<String, Object> before, final Map<String, Object> after) {
+		final Set<String> changed = new HashSet<>();
+		for (Map.Entry<String, Object> entry : after.entrySet()) {
+			if (!Objects.deepEquals(entry.getValue(), before.get(entry.getKey()))) {
+				changed.add(entry.getKey());
+			}
+		}
+		for (String key : before.keySet()) {
+			if (!after.containsKey(key)) {
+				changed.add(key);
+			}
+		}
+		return changed;
+	}
+
+	public Object put(String key, Object value) {
+		final Object old = properties.put(key, value);
+		if (!Objects.deepEquals(old, value)) {
+			notify(Collections.singleton(key));
+		}
+		return old;
+	}
+
+	public void putAll(Map<? extends String, ? extends Object> m) {
+		final Map<String, Object> before = new HashMap<>();
+		for (String key : m.keySet()) {
+			before.put(key, properties.get(key));
+		}
+		properties.putAll(m);
+		final Set<String> changed = new HashSet<>();
+		for (Map.Entry<? extends String, ? extends Object> entry : m.entrySet()) {
+			if (!Objects.deepEquals(before.get(entry.getKey()), entry.getValue())) {
+				changed.add(entry.getKey());
+			}
+		}
+		notify(changed);
+	}
+
+	public Object remove(Object key) {
+		final boolean present = properties.containsKey(key);
+		final Object old = properties.remove(key);
+		if (present && key instanceof String) {
+			notify(Collections.singleton((String) key));
+		}
+		return old;
+	}
+
+	public void clear() {
+		final Set<String> keys = new HashSet<>(properties.keySet());
+		properties.clear();
+		notify(keys);
+	}
+
+	public int getParallelity() {
+		return properties.getParallelity();
+	}
+
+	public void setParallelity(int parallelity) {
+		properties.setParallelity(parallelity);
+	}
+
+	public OmniProperties readFromStream(InputStream input) throws IOException {
+		final Map<String, Object> before = snapshot();
+		try {
+			properties.readFromStream(input);
+			return this;
+		} finally {
+			notify(diff(before, snapshot()));
+		}
+	}
+
+	public OmniProperties readFromFile(File file) throws IOException {
+		final Map<String, Object> before = snapshot();
+		try {
+			properties.readFromFile(file);
+			return this;
+		} finally {
+			notify(diff(before, snapshot()));
+		}
+	}
+
+	public OmniProperties readFromResource(String string) throws IOException {
+		final Map<String, Object> before = snapshot();
+		try {
+			properties.readFromResource(string);
+			return this;
+		} finally {
+			notify(diff(before, snapshot()));
+		}
+	}
+
+	public OmniProperties readFromFile(String string) throws IOException {
+		final Map<String, Object> before = snapshot();
+		try {
+			properties.readFromFile(string);
+			return this;
+		} finally {
+			notify(diff(before, snapshot()));
+		}
+	}
+
+	public OmniProperties readFromUrl(URL url) throws IOException {
+		final Map<String, Object> before = snapshot();
+		try {
+			properties.readFromUrl(url);
+			return this;
+		} finally {
+			notify(diff(before, snapshot()));
+		}
+	}
+
+	public OmniProperties readFromString(String string) throws IOException {
+		final Map<String, Object> before = snapshot();
+		try {
+			properties.readFromString(string);
+			return this;
+		} finally {
+			notify(diff(before, snapshot()));
+		}
+	}
+
+	public OmniProperties readFromPath(Path path) throws IOException {
+		final Map<String, Object> before = snapshot();
+		try {
+			properties.readFromPath(path);
+			return this;
+		} finally {
+			notify(diff(before, snapshot()));
+		}
+	}
+
+	public int getInt(String key) {
+		return properties.getInt(key);
+	}
+
+	public int getInt(String key, int def) {
+		return properties.getInt(key, def);
+	}
+
+	public long getLong(String key) {
+		return properties.getLong(key);
+	}
+
+	public long getLong(String key, long def) {
+		return properties.getLong(key, def);
+	}
+
+	public float getFloat(String key) {
+		return properties.getFloat(key);
+	}
+
+	public float getFloat(String key, float def) {
+		return properties.getFloat(key, def);
+	}
+
+	public double getDouble(String key) {
+		return properties.getDouble(key);
+	}
+
+	public double getDouble(String key, double def) {
+		return properties.getDouble(key, def);
+	}
+
+	public String getString(String key) {
+		return properties.getString(key);
+	}
+
+	public String getString(String key, String def) {
+		return properties.getString(key, def);
+	}
+
+	public boolean getBoolean(String key) {
+		return properties.getBoolean(key);
+	}
+
+	public boolean getBoolean(String key, boolean def) {
+		return properties.getBoolean(key, def);
+	}
+
+	public <T> T getObject(String key, Class<T> type) {
+		return properties.getObject(key, type);
+	}
+
+	public <T> T getObject(String key, T def, Class<T> type) {
+		return properties.getObject(key, def, type);
+	}
+
+	public boolean containsString(String key) {
+		return properties.containsString(key);
+	}
+
+	public boolean containsInt(String key) {
+		return properties.containsInt(key);
+	}
+
+	public boolean containsLong(String key) {
+		return properties.containsLong(key);
+	}
+
+	public boolean containsBoolean(String key) {
+		return properties.containsBoolean(key);
+	}
+
+	public boolean containsDouble(String key) {
+		return properties.containsDouble(key);
+	}
+
+	public boolean containsFloat(String key) {
+		return properties.containsFloat(key);
+	}
+
+	public <T> boolean containsObject(String key, Class<T> type) {
+		return properties.containsObject(key, type);
+	}
+
+	public boolean containsKey(Object key) {
+		return properties.containsKey(key);
+	}
+
+	public boolean containsValue(Object value) {
+		return properties.containsValue(value);
+	}
+
+	public Object get(Object key) {
+		return properties.get(key);
+	}
+
+	public Set<java.util.Map.Entry<String, Object>> entrySet() {
+		return Collections.unmodifiableSet(properties.entrySet());
+	}
+
+	public Set<String> keySet() {
+		return Collections.unmodifiableSet(properties.keySet());
+	}
+
+	public Collection<Object> values() {
+		return Collections.unmodifiableCollection(properties.values());
+	}
+
+	public boolean equals(Object obj) {
+		return properties.equals(obj);
+	}
+
+	public int hashCode() {
+		return properties.hashCode();
+	}
+
+	public boolean isEmpty() {
+		return properties.isEmpty();
+	}
+
+	public int size() {
+		return properties.size();
+	}
+
+	public String toString() {
+		return properties.toString();
+	}
+}
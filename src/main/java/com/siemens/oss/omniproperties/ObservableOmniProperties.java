@@ -175,6 +175,14 @@ public final class ObservableOmniProperties extends OmniProperties {
 		properties.putAll(m);
 	}
 
+	public int getParallelity() {
+		return properties.getParallelity();
+	}
+
+	public void setParallelity(int parallelity) {
+		properties.setParallelity(parallelity);
+	}
+
 	public OmniProperties readFromStream(InputStream input) throws IOException {
 		observer.readFromStream(input);
 		properties.readFromStream(input);
@@ -27,6 +27,7 @@ import java.util.Properties;
 import com.siemens.oss.omniproperties.exceptions.PropertyNotFoundException;
 import com.siemens.oss.omniproperties.exceptions.WrongClassException;
 import com.siemens.oss.omniproperties.util.OmniPropertiesReader;
+import com.siemens.oss.omniproperties.util.ReflectionUtil;
 import com.siemens.oss.omniproperties.validation.OValValidator;
 
 /**
@@ -45,7 +46,14 @@ public abstract class OmniProperties implements Map<String, Object>, java.io.Ser
 
 	public static final String SELF = "self";
 	
-	private Validator validator = new OValValidator();
+	/**
+	 * system property setting the default of <code>setParallelity</code>
+	 */
+	public static final String PARALLELITY_PROPERTY = "omniproperties.parallelity";
+	
+	private Validator validator = OValValidator.shared();
+	
+	private int parallelity = Integer.getInteger(PARALLELITY_PROPERTY, 1).intValue();
 	
 	/**
 	 * @return a new {@link OmniProperties} object.
@@ -68,6 +76,24 @@ public abstract class OmniProperties implements Map<String, Object>, java.io.Ser
 		this.validator = validator;
 	}
 
+	public int getParallelity() {
+		return parallelity;
+	}
+	
+	/**
+	 * Sets the number of threads used to evaluate independent assignments
+	 * containing builders while reading. With 1 (the default), statements
+	 * are evaluated one after another. Wrappers forward it to the wrapped
+	 * properties, which are read into.
+	 * @param parallelity
+	 */
+	public void setParallelity(int parallelity) {
+		if (parallelity < 1) {
+			throw new IllegalArgumentException("parallelity must be at least 1");
+		}
+		this.parallelity = parallelity;
+	}
+
 	/**
 	 * Get an integer property
 	 * 
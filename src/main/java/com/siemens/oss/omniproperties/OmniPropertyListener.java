@@ -0,0 +1,35 @@
+/*
+* Copyright Siemens AG, 2026
+*
+* Licensed under the Apache License, Version 2.0 the "License";
+* you may not use this file except in compliance with the License.
+* You may obtain a copy of the License at
+*
+* http://www.apache.org/licenses/LICENSE-2.0
+*
+* Unless required by applicable law or agreed to in writing, software
+* distributed under the License is distributed on an "AS IS" BASIS,
+* WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+* See the License for the specific language governing permissions and
+* limitations under the License.
+*/
+
+package com.siemens.oss.omniproperties;
+
+import java.util.Set;
+
+/**
+ * Is notified of changed properties. See {@link NotifyingOmniProperties}.
+ */
+public interface OmniPropertyListener {
+
+	/**
+	 * @param properties
+	 *            the changed properties
+	 * @param keys
+	 *            all subscribed keys which were added, changed or removed by
+	 *            one modification (e.g. one <code>put</code> or one
+	 *            <code>readFrom*</code>)
+	 */
+	void propertiesChanged(OmniProperties properties, Set<String> keys);
+}
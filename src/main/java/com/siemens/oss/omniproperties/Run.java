@@ -16,8 +16,11 @@
 
 package com.siemens.oss.omniproperties;
 
+import java.io.File;
 import java.io.IOException;
 
+import com.siemens.oss.omniproperties.util.Profiler;
+
 /**
  * Generic runner for oprop files. Expects an object "run" implementing the {@link Runnable} interface.
  * 
@@ -28,9 +31,22 @@ public final class Run {
 
 	public final static String RUN_KEY = "run";
 
+	public final static String PROFILE_OPTION = "-profile";
+
 	public static void main(String[] args) throws IOException {
+		if (args.length == 3 && args[0].equals(PROFILE_OPTION)) {
+			Profiler.start();
+			final OmniProperties properties;
+			try {
+				properties = OmniProperties.create().readFromFile(args[2]);
+			} finally {
+				Profiler.stop().write(new File(args[1]));
+			}
+			properties.getObject(RUN_KEY, Runnable.class).run();
+			return;
+		}
 		if (args.length != 1) {
-			System.err.println("Usage: java " + Run.class.getName() + " OPROPS_FILE");
+			System.err.println("Usage: java " + Run.class.getName() + " [" + PROFILE_OPTION + " REPORT_FILE] OPROPS_FILE");
 			System.exit(-1);
 		}
 
@@ -1,43 +1,302 @@
 package com.siemens.oss.omniproperties;
 
 import java.io.BufferedReader;
+import java.io.File;
 import java.io.IOException;
+import java.io.InputStream;
 import java.io.InputStreamReader;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.StringTokenizer;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import net.sf.oval.constraint.Min;
+import net.sf.oval.constraint.NotNull;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 
 /**
  * This class calls a "command" in the currently active shell. The 'shellCommand' must
  * be given to the constructor of this class. Therefore this class can be used
- * for any kind of preprocessing steps outside of Java.    
- * 
- * The output of the shell is written to STDOUT. 
+ * for any kind of preprocessing steps outside of Java.
+ *
+ * By default, the output of the command is logged line by line, STDOUT with
+ * level info and STDERR with level warn. Both streams are drained concurrently, so
+ * a command writing a lot to STDERR cannot block. Alternatively, the streams can be
+ * redirected to files (<code>stdout</code>, <code>stderr</code>) or to the console of
+ * the JVM (<code>inheritIO</code>).
+ *
+ * The number of concurrently running commands is limited by a {@link Semaphore}
+ * (<code>limit</code>). By default all {@link ShellExecutor}s share one limit of
+ * <code>omniproperties.shell.concurrency</code> (system property, defaults to the
+ * number of processors).
+ *
  * @author Michel Tokic
  */
 public final class ShellExecutor implements Runnable {
-	
-	private String shellCommand = "";
-	
-	public ShellExecutor (String shellCommand) {
+
+	public static final String CONCURRENCY_PROPERTY = "omniproperties.shell.concurrency";
+
+	private static final Logger LOG = LoggerFactory.getLogger(ShellExecutor.class);
+
+	/**
+	 * seconds a terminated command may take to exit before it is killed
+	 */
+	private static final long DESTROY_GRACE_SECONDS = 5;
+
+	private static final Semaphore DEFAULT_LIMIT = new Semaphore(Integer.getInteger(CONCURRENCY_PROPERTY, Runtime
+			.getRuntime().availableProcessors()), true);
+
+	private static final ExecutorService PUMPS = Executors.newCachedThreadPool(new ThreadFactory() {
+		@Override
+		public Thread newThread(Runnable runnable) {
+			final Thread thread = new Thread(runnable, "shell-executor-pump");
+			thread.setDaemon(true);
+			return thread;
+		}
+	});
+
+	private final String shellCommand;
+	private final List<String> command;
+
+	/**
+	 * file receiving STDOUT. If not set, STDOUT is logged.
+	 */
+	private File stdout;
+
+	/**
+	 * file receiving STDERR. If not set, STDERR is logged.
+	 */
+	private File stderr;
+
+	/**
+	 * pass STDOUT and STDERR directly to the console of the JVM
+	 */
+	private boolean inheritIO;
+
+	/**
+	 * timeout in seconds. 0 means no timeout.
+	 */
+	@Min(0)
+	private long timeout;
+
+	/**
+	 * if true, a failing command (non-zero exit code, timeout, start error)
+	 * raises an exception. Otherwise it is logged.
+	 */
+	private boolean failOnError;
+
+	/**
+	 * limits the number of concurrently running commands
+	 */
+	@NotNull
+	private Semaphore limit = DEFAULT_LIMIT;
+
+	public ShellExecutor(String shellCommand) {
 		this.shellCommand = shellCommand;
+		this.command = requireCommand(tokenize(shellCommand), shellCommand);
+	}
+
+	public ShellExecutor(String[] command) {
+		this.shellCommand = Arrays.toString(command);
+		this.command = requireCommand(Arrays.asList(command), shellCommand);
 	}
 
 	public void run() {
 		try {
-			// execute shell command
-			System.out.println (" => executing command '" + this.shellCommand + "'");
-			Process p = Runtime.getRuntime().exec(this.shellCommand);			
-            
-			// write shell output to console output
-            BufferedReader reader = new BufferedReader(new InputStreamReader(p.getInputStream()));
-            String line=reader.readLine();
-
-            while (line != null) {    
-                System.out.println(line);
-                line = reader.readLine();
-            }
-			
+			limit.acquire();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new RuntimeException("interrupted while waiting to execute '" + shellCommand + "'", e);
+		}
+		try {
+			execute();
+		} finally {
+			limit.release();
+		}
+	}
+
+	private void execute() {
+		LOG.info("executing command '{}'", shellCommand);
+		final ProcessBuilder builder = new ProcessBuilder(command);
+		if (inheritIO) {
+			builder.inheritIO();
+		}
+		if (stdout != null) {
+			builder.redirectOutput(stdout);
+		}
+		if (stderr != null) {
+			builder.redirectError(stderr);
+		}
+
+		final Process process;
+		try {
+			process = builder.start();
+		} catch (IOException e) {
+			fail("command '" + shellCommand + "' could not be started", e);
+			return;
+		}
+
+		final Future<?> stdoutPump = isLogged(builder.redirectOutput()) ? pump(process.getInputStream(), false) : null;
+		final Future<?> stderrPump = isLogged(builder.redirectError()) ? pump(process.getErrorStream(), true) : null;
+		final long deadline = timeout > 0 ? System.nanoTime() + TimeUnit.SECONDS.toNanos(timeout) : 0L;
+
+		final int exitCode;
+		try {
+			if (timeout > 0 && !process.waitFor(remaining(deadline), TimeUnit.NANOSECONDS)) {
+				terminate(process);
+				stopPumps(process, stdoutPump, stderrPump);
+				fail("command '" + shellCommand + "' timed out after " + timeout + " s", null);
+				return;
+			}
+			exitCode = process.waitFor();
+			// a child of the command may still hold the pipes open
+			await(stdoutPump, deadline);
+			await(stderrPump, deadline);
+		} catch (TimeoutException e) {
+			stopPumps(process, stdoutPump, stderrPump);
+			fail("output of command '" + shellCommand + "' still open after " + timeout + " s", e);
+			return;
+		} catch (InterruptedException e) {
+			terminate(process);
+			stopPumps(process, stdoutPump, stderrPump);
+			Thread.currentThread().interrupt();
+			throw new RuntimeException("interrupted while executing '" + shellCommand + "'", e);
+		} catch (ExecutionException e) {
+			fail("error reading the output of '" + shellCommand + "'", e.getCause());
+			return;
+		}
+
+		if (exitCode != 0) {
+			fail("command '" + shellCommand + "' exited with code " + exitCode, null);
+		}
+	}
+
+	/**
+	 * asks the process to terminate, kills it if it is still alive after
+	 * {@link #DESTROY_GRACE_SECONDS} and waits until it is gone. The calling
+	 * thread holds its permit of <code>limit</code> until then.
+	 */
+	private void terminate(final Process process) {
+		process.destroy();
+		boolean interrupted = false;
+		while (true) {
+			try {
+				if (!process.waitFor(DESTROY_GRACE_SECONDS, TimeUnit.SECONDS)) {
+					LOG.warn("command '{}' ignored termination, killing it", shellCommand);
+					process.destroyForcibly().waitFor();
+				}
+				break;
+			} catch (InterruptedException e) {
+				interrupted = true;
+				process.destroyForcibly();
+			}
+		}
+		if (interrupted) {
+			Thread.currentThread().interrupt();
+		}
+	}
+
+	private static void stopPumps(final Process process, final Future<?> stdoutPump, final Future<?> stderrPump) {
+		cancel(stdoutPump);
+		cancel(stderrPump);
+		closeQuietly(process.getInputStream());
+		closeQuietly(process.getErrorStream());
+	}
+
+	private static void cancel(final Future<?> future) {
+		if (future != null) {
+			future.cancel(true);
+		}
+	}
+
+	private static void closeQuietly(final InputStream input) {
+		try {
+			input.close();
 		} catch (IOException e) {
-			e.printStackTrace();
-		}	
+			LOG.debug("could not close process stream", e);
+		}
+	}
+
+	private static long remaining(final long deadline) {
+		return Math.max(0L, deadline - System.nanoTime());
+	}
+
+	private void fail(final String message, final Throwable cause) {
+		if (failOnError) {
+			throw new RuntimeException(message, cause);
+		}
+		LOG.error(message, cause);
+	}
+
+	private static boolean isLogged(final ProcessBuilder.Redirect redirect) {
+		return redirect == ProcessBuilder.Redirect.PIPE;
+	}
+
+	/**
+	 * waits for the future, until <code>deadline</code> (see
+	 * {@link System#nanoTime()}) unless it is 0
+	 */
+	private static void await(final Future<?> future, final long deadline) throws InterruptedException,
+			ExecutionException, TimeoutException {
+		if (future == null) {
+			return;
+		}
+		if (deadline == 0L) {
+			future.get();
+		} else {
+			future.get(remaining(deadline), TimeUnit.NANOSECONDS);
+		}
+	}
+
+	private static Future<?> pump(final InputStream input, final boolean error) {
+		return PUMPS.submit(new Callable<Void>() {
+			@Override
+			public Void call() throws IOException {
+				try (final BufferedReader reader = new BufferedReader(new InputStreamReader(input))) {
+					String line = reader.readLine();
+					while (line != null) {
+						if (error) {
+							LOG.warn(line);
+						} else {
+							LOG.info(line);
+						}
+						line = reader.readLine();
+					}
+				}
+				return null;
+			}
+		});
+	}
+
+	private static List<String> requireCommand(final List<String> command, final String shellCommand) {
+		if (command.isEmpty()) {
+			throw new IllegalArgumentException("Command must not be empty, got '" + shellCommand + "'.");
+		}
+		return command;
+	}
+
+	/**
+	 * splits the command at white space, as done by
+	 * {@link Runtime#exec(String)}
+	 */
+	private static List<String> tokenize(final String shellCommand) {
+		final StringTokenizer tokenizer = new StringTokenizer(shellCommand);
+		final List<String> tokens = new ArrayList<>();
+		while (tokenizer.hasMoreTokens()) {
+			tokens.add(tokenizer.nextToken());
+		}
+		return tokens;
 	}
 }
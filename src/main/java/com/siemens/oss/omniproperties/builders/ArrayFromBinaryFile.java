@@ -0,0 +1,60 @@
+/*
+* Copyright Siemens AG, 2026
+*
+* Licensed under the Apache License, Version 2.0 the "License";
+* you may not use this file except in compliance with the License.
+* You may obtain a copy of the License at
+*
+* http://www.apache.org/licenses/LICENSE-2.0
+*
+* Unless required by applicable law or agreed to in writing, software
+* distributed under the License is distributed on an "AS IS" BASIS,
+* WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+* See the License for the specific language governing permissions and
+* limitations under the License.
+*/
+
+package com.siemens.oss.omniproperties.builders;
+
+import java.io.File;
+import java.io.IOException;
+
+import net.sf.oval.constraint.MemberOf;
+import net.sf.oval.constraint.NotNull;
+
+import com.siemens.oss.omniproperties.ObjectBuilder;
+import com.siemens.oss.omniproperties.util.BinaryArrays;
+
+/**
+ * Loads a primitive array from a raw binary file holding nothing but the
+ * elements, e.g. written by {@link java.io.DataOutputStream} or
+ * <code>numpy.ndarray.tofile</code>:
+ * 
+ * <pre>
+ * table = ArrayFromBinaryFile(File('table.bin'))[type='double', byteOrder='little'];
+ * </pre>
+ * 
+ * See {@link MappedArray} to use such a file without copying it into the heap.
+ */
+public class ArrayFromBinaryFile implements ObjectBuilder<Object> {
+
+	@NotNull
+	private final File file;
+
+	@NotNull
+	@MemberOf({ "byte", "short", "int", "long", "float", "double" })
+	private String type = "double";
+
+	@NotNull
+	@MemberOf({ "big", "little", "native" })
+	private String byteOrder = "big";
+
+	public ArrayFromBinaryFile(final File file) {
+		this.file = file;
+	}
+
+	@Override
+	public Object build() throws IOException {
+		return BinaryArrays.read(file, BinaryArrays.typeOf(type), BinaryArrays.byteOrderOf(byteOrder));
+	}
+}
@@ -0,0 +1,143 @@
+/*
+* Copyright Siemens AG, 2026
+*
+* Licensed under the Apache License, Version 2.0 the "License";
+* you may not use this file except in compliance with the License.
+* You may obtain a copy of the License at
+*
+* http://www.apache.org/licenses/LICENSE-2.0
+*
+* Unless required by applicable law or agreed to in writing, software
+* distributed under the License is distributed on an "AS IS" BASIS,
+* WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+* See the License for the specific language governing permissions and
+* limitations under the License.
+*/
+
+package com.siemens.oss.omniproperties.builders;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.Charset;
+import java.nio.file.Files;
+import java.util.Arrays;
+
+import net.sf.oval.constraint.MemberOf;
+import net.sf.oval.constraint.Min;
+import net.sf.oval.constraint.NotEmpty;
+import net.sf.oval.constraint.NotNull;
+
+import com.siemens.oss.omniproperties.ObjectBuilder;
+import com.siemens.oss.omniproperties.util.NumberParser;
+
+/**
+ * Loads one column of a CSV file as primitive array. Fields are not unquoted,
+ * so the delimiter must not occur within fields. Fields are trimmed and blank
+ * lines are skipped.
+ * 
+ * <pre>
+ * weights = ArrayFromCsv(File('weights.csv'))[column=2, skipLines=1];
+ * ids = ArrayFromCsv(File('ids.tsv'))[type='long', delimiter="\t"];
+ * </pre>
+ */
+public class ArrayFromCsv implements ObjectBuilder<Object> {
+
+	private static final int BUFFER_SIZE = 1 << 16;
+
+	@NotNull
+	private final File file;
+
+	@NotNull
+	@MemberOf({ "int", "long", "double" })
+	private String type = "double";
+
+	/**
+	 * index of the column, starting at 0
+	 */
+	@Min(0)
+	private int column;
+
+	@NotNull
+	@NotEmpty
+	private String delimiter = ",";
+
+	/**
+	 * number of header lines
+	 */
+	@Min(0)
+	private int skipLines;
+
+	/**
+	 * charset of the file, by default the platform charset
+	 */
+	@NotNull
+	private String charset = Charset.defaultCharset().name();
+
+	public ArrayFromCsv(final File file) {
+		this.file = file;
+	}
+
+	@Override
+	public Object build() throws IOException {
+		final boolean isDouble = "double".equals(type);
+		double[] doubles = isDouble ? new double[1024] : null;
+		long[] longs = isDouble ? null : new long[1024];
+		int count = 0;
+		try (final BufferedReader reader = new BufferedReader(new InputStreamReader(Files.newInputStream(file
+				.toPath()), Charset.forName(charset)), BUFFER_SIZE)) {
+			int lineNumber = 0;
+			for (String line = reader.readLine(); line != null; line = reader.readLine()) {
+				lineNumber++;
+				if (lineNumber <= skipLines || line.trim().isEmpty()) {
+					continue;
+				}
+				int start = 0;
+				for (int i = 0; i < column; i++) {
+					start = line.indexOf(delimiter, start);
+					if (start < 0) {
+						throw new IllegalArgumentException("Line " + lineNumber + " of '" + file + "' has no column "
+								+ column);
+					}
+					start += delimiter.length();
+				}
+				int end = line.indexOf(delimiter, start);
+				end = end < 0 ? line.length() : end;
+				while (start < end && line.charAt(start) <= ' ') {
+					start++;
+				}
+				while (end > start && line.charAt(end - 1) <= ' ') {
+					end--;
+				}
+				try {
+					if (isDouble) {
+						if (count == doubles.length) {
+							doubles = Arrays.copyOf(doubles, count * 2);
+						}
+						doubles[count++] = NumberParser.parseDouble(line, start, end);
+					} else {
+						if (count == longs.length) {
+							longs = Arrays.copyOf(longs, count * 2);
+						}
+						longs[count++] = "int".equals(type) ? NumberParser.parseInt(line, start, end) : NumberParser
+								.parseLong(line, start, end);
+					}
+				} catch (NumberFormatException e) {
+					throw new IllegalArgumentException("Line " + lineNumber + " of '" + file + "': " + e.getMessage(), e);
+				}
+			}
+		}
+		if (isDouble) {
+			return Arrays.copyOf(doubles, count);
+		}
+		if ("long".equals(type)) {
+			return Arrays.copyOf(longs, count);
+		}
+		final int[] ints = new int[count];
+		for (int i = 0; i < count; i++) {
+			ints[i] = (int) longs[i];
+		}
+		return ints;
+	}
+}
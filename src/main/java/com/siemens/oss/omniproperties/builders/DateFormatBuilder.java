@@ -34,11 +34,19 @@ public class DateFormatBuilder implements ObjectBuilder<DateFormat> {
 	@NotNull
 	private TimeZone timeZone;
 	
+	/**
+	 * if true, an immutable {@link ThreadSafeDateFormat} is built
+	 */
+	private boolean threadSafe;
+	
 	@Override
 	public DateFormat build() {
 		final SimpleDateFormat sdf = new SimpleDateFormat(dateFormat);
 		sdf.setTimeZone(timeZone);
 		
+		if (threadSafe) {
+			return new ThreadSafeDateFormat(sdf);
+		}
 		return sdf;
 	}
 }
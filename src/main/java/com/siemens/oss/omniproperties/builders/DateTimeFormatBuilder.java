@@ -0,0 +1,47 @@
+/*
+* Copyright Siemens AG, 2026
+*
+* Licensed under the Apache License, Version 2.0 the "License";
+* you may not use this file except in compliance with the License.
+* You may obtain a copy of the License at
+*
+* http://www.apache.org/licenses/LICENSE-2.0
+*
+* Unless required by applicable law or agreed to in writing, software
+* distributed under the License is distributed on an "AS IS" BASIS,
+* WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+* See the License for the specific language governing permissions and
+* limitations under the License.
+*/
+
+package com.siemens.oss.omniproperties.builders;
+
+import java.time.format.DateTimeFormatter;
+import java.util.TimeZone;
+
+import net.sf.oval.constraint.NotEmpty;
+import net.sf.oval.constraint.NotNull;
+
+import com.siemens.oss.omniproperties.ObjectBuilder;
+
+/**
+ * Builds an immutable, thread safe {@link DateTimeFormatter} from a pattern
+ * and a {@link TimeZone}, the <code>java.time</code> sibling of
+ * {@link DateFormatBuilder}. Note that a few pattern letters differ from
+ * {@link java.text.SimpleDateFormat} (e.g. <code>u</code> is the year, not the
+ * day of week).
+ */
+public class DateTimeFormatBuilder implements ObjectBuilder<DateTimeFormatter> {
+
+	@NotNull
+	@NotEmpty
+	private String dateFormat;
+
+	@NotNull
+	private TimeZone timeZone;
+
+	@Override
+	public DateTimeFormatter build() {
+		return DateTimeFormatter.ofPattern(dateFormat).withZone(timeZone.toZoneId());
+	}
+}
@@ -0,0 +1,41 @@
+/*
+* Copyright Siemens AG, 2026
+*
+* Licensed under the Apache License, Version 2.0 the "License";
+* you may not use this file except in compliance with the License.
+* You may obtain a copy of the License at
+*
+* http://www.apache.org/licenses/LICENSE-2.0
+*
+* Unless required by applicable law or agreed to in writing, software
+* distributed under the License is distributed on an "AS IS" BASIS,
+* WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+* See the License for the specific language governing permissions and
+* limitations under the License.
+*/
+
+package com.siemens.oss.omniproperties.builders;
+
+import com.siemens.oss.omniproperties.util.ArraySets;
+
+/**
+ * Omniproperties builder which takes a number of Arrays (at least one) and
+ * provides another Array of the same type as the first provided Array
+ * containing the elements of the first Array which are contained in none of
+ * the others, in the order of the first Array. Computed in linear time
+ * without boxing primitives (see {@link ArraySets}). See {@link SetOperation}
+ * for other representations of the result.
+ */
+public final class Difference extends SetOperation {
+
+	private final Object differenceArray;
+
+	public Difference(final Object[] arrays) {
+		differenceArray = ArraySets.difference(arrays);
+	}
+
+	@Override
+	protected Object result() {
+		return differenceArray;
+	}
+}
@@ -1,37 +1,79 @@
+/*
+* Copyright Siemens AG, 2026
+*
+* Licensed under the Apache License, Version 2.0 the "License";
+* you may not use this file except in compliance with the License.
+* You may obtain a copy of the License at
+*
+* http://www.apache.org/licenses/LICENSE-2.0
+*
+* Unless required by applicable law or agreed to in writing, software
+* distributed under the License is distributed on an "AS IS" BASIS,
+* WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+* See the License for the specific language governing permissions and
+* limitations under the License.
+*/
+
 package com.siemens.oss.omniproperties.builders;
 
-import java.lang.reflect.Array;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Random;
+import java.util.RandomAccess;
+
+import net.sf.oval.constraint.Min;
+import net.sf.oval.constraint.NotNull;
 
 import com.siemens.oss.omniproperties.ObjectBuilder;
+import com.siemens.oss.omniproperties.util.Reservoir;
+
+/**
+ * Draws a uniform random sample without replacement. Samples of arrays (of
+ * any type, including primitives) are arrays of the same type; samples of
+ * {@link Iterable}s (e.g. {@link LinesFromFile}) are {@link List}s. The sample
+ * keeps the order of the input, except for Iterables without random access,
+ * which are streamed through a {@link Reservoir}. Set <code>seed</code> (a
+ * long, e.g. <code>seed=42L</code>) for reproducible samples.
+ * 
+ * If the input is not larger than the sample size, all of it is returned.
+ */
+public final class DrawSample implements ObjectBuilder<Object> {
+
+	@NotNull
+	private final Object items;
+
+	@Min(0)
+	private final int sampleSize;
 
-public final class DrawSample<T> implements ObjectBuilder<T[]> {
-	final T[] array;
-	final int sampleSize;
-	public DrawSample(T[] array, int sampleSize) {
-		this.array = array;
+	private Long seed;
+
+	/**
+	 * @param items
+	 *            an array or an {@link Iterable}
+	 * @param sampleSize
+	 */
+	public DrawSample(final Object items, final int sampleSize) {
+		this.items = items;
 		this.sampleSize = sampleSize;
 	}
-	
-	@SuppressWarnings("unchecked")
+
 	@Override
-	public T[] build() throws Exception {
-		final T[] sample = (T[]) Array.newInstance(array.getClass(), sampleSize);
-		final Random random = new Random();
-		
-		
-		for (int i = 0; i < sample.length; i++) {
-			sample[i] = array[i];
-		}
-		
-		int index = sample.length;
-		while(index<array.length){
-			double rnd = random.nextDouble();
-			if(rnd > (double)sampleSize/(double)(index+1)){
-				sample[random.nextInt(sampleSize)] = array[index];
+	public Object build() {
+		final Random random = seed == null ? new Random() : new Random(seed.longValue());
+		if (items instanceof List && items instanceof RandomAccess) {
+			final List<?> list = (List<?>) items;
+			final int[] indexes = Reservoir.sampleIndexes(list.size(), sampleSize, random);
+			final List<Object> sample = new ArrayList<>(indexes.length);
+			for (int index : indexes) {
+				sample.add(list.get(index));
 			}
-			index++;
+			return sample;
+		}
+		if (items instanceof Iterable) {
+			final Reservoir<Object> reservoir = new Reservoir<>(sampleSize, random);
+			reservoir.offerAll((Iterable<?>) items);
+			return new ArrayList<>(reservoir.getSample());
 		}
-		return sample;
+		return Reservoir.sample(items, sampleSize, random);
 	}
 }
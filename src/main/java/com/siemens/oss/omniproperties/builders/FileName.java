@@ -19,12 +19,14 @@ package com.siemens.oss.omniproperties.builders;
 import java.io.File;
 import java.io.IOException;
 
+import com.siemens.oss.omniproperties.Immutable;
 import com.siemens.oss.omniproperties.ObjectBuilder;
 
 /**
  * @author Markus Michael Geipel
  *
  */
+@Immutable
 public class FileName implements ObjectBuilder<String> {
 
 	final private File file;
@@ -17,12 +17,40 @@
 package com.siemens.oss.omniproperties.builders;
 
 import java.io.File;
-import java.io.FilenameFilter;
 import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.LinkOption;
+import java.nio.file.Path;
+import java.nio.file.PathMatcher;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
+
+import net.sf.oval.constraint.Min;
 
 import com.siemens.oss.omniproperties.ObjectBuilder;
 
 /**
+ * Lists the entries (files and directories) of a directory, sorted by path.
+ * With <code>maxDepth</code> &gt; 1, subdirectories are listed recursively;
+ * with <code>parallelity</code> &gt; 1, on a fork-join pool.
+ * 
+ * Entries can be filtered by <code>suffix</code>, by a <code>glob</code> or
+ * by a <code>regex</code>. Globs and regular expressions are matched against
+ * the path relative to the directory, e.g. <code>**.csv</code> or
+ * <code>2015-*&#47;*.csv</code>. All given filters must match.
+ * 
+ * To process huge trees without materializing the listing, use
+ * {@link #stream()} from Java.
+ * 
  * @author Markus Michael Geipel
  *
  */
@@ -30,6 +58,20 @@ public class FilesInDir implements ObjectBuilder<File[]> {
 
 	final private File dir;
 	private String suffix;
+	private String glob;
+	private String regex;
+
+	/**
+	 * depth of the listing, 1 lists the directory only
+	 */
+	@Min(1)
+	private int maxDepth = 1;
+
+	/**
+	 * number of threads listing subdirectories
+	 */
+	@Min(1)
+	private int parallelity = 1;
 
 	
 	public FilesInDir(final File dir) {
@@ -48,8 +90,66 @@ public class FilesInDir implements ObjectBuilder<File[]> {
 		this.suffix = suffix;
 	}
 
+	public void setGlob(String glob) {
+		this.glob = glob;
+	}
+
+	public void setRegex(String regex) {
+		this.regex = regex;
+	}
+
+	public void setMaxDepth(int maxDepth) {
+		this.maxDepth = maxDepth;
+	}
+
+	public void setParallelity(int parallelity) {
+		this.parallelity = parallelity;
+	}
+
 	@Override
 	public File[] build() throws IOException {
+		final List<Path> paths;
+		if (parallelity > 1 && maxDepth > 1) {
+			paths = listConcurrently();
+		} else {
+			paths = new ArrayList<>();
+			try (final Stream<Path> stream = stream()) {
+				final Iterator<Path> iterator = stream.iterator();
+				while (iterator.hasNext()) {
+					paths.add(iterator.next());
+				}
+			} catch (UncheckedIOException e) {
+				throw e.getCause();
+			}
+		}
+		final File[] files = new File[paths.size()];
+		for (int i = 0; i < files.length; i++) {
+			files[i] = paths.get(i).toFile();
+		}
+		Arrays.sort(files);
+		return files;
+	}
+
+	/**
+	 * Lists the entries lazily, in no particular order. The stream must be
+	 * closed after use.
+	 * 
+	 * @return stream of the matching entries
+	 * @throws IOException
+	 *             if the directory cannot be read
+	 */
+	public Stream<Path> stream() throws IOException {
+		final Path root = checkedRoot();
+		final Predicate<Path> matcher = matcher(root);
+		return Files.walk(root, maxDepth).filter(new Predicate<Path>() {
+			@Override
+			public boolean test(Path path) {
+				return !path.equals(root) && matcher.test(path);
+			}
+		});
+	}
+
+	private Path checkedRoot() {
 		if (!dir.exists()) {
 			throw new IllegalArgumentException("Directory '" + dir
 					+ "' does not exist");
@@ -58,15 +158,75 @@ public class FilesInDir implements ObjectBuilder<File[]> {
 			throw new IllegalArgumentException("'" + dir
 					+ "' is not a directory");
 		}
+		return dir.toPath();
+	}
 
-		final File[] files = dir.listFiles(new FilenameFilter() {
+	private Predicate<Path> matcher(final Path root) {
+		final PathMatcher globMatcher = glob == null ? null : FileSystems.getDefault().getPathMatcher("glob:" + glob);
+		final PathMatcher regexMatcher = regex == null ? null : FileSystems.getDefault().getPathMatcher("regex:" + regex);
+		return new Predicate<Path>() {
 			@Override
-			public boolean accept(File dir, String name) {
-				return name.endsWith(suffix);
+			public boolean test(Path path) {
+				if (suffix != null && !path.getFileName().toString().endsWith(suffix)) {
+					return false;
+				}
+				final Path relative = root.relativize(path);
+				return (globMatcher == null || globMatcher.matches(relative))
+						&& (regexMatcher == null || regexMatcher.matches(relative));
 			}
-		});
+		};
+	}
 
-		return files;
+	private List<Path> listConcurrently() throws IOException {
+		final Path root = checkedRoot();
+		final ForkJoinPool pool = new ForkJoinPool(parallelity);
+		try {
+			return pool.invoke(new Listing(root, 1, matcher(root)));
+		} catch (UncheckedIOException e) {
+			throw e.getCause();
+		} finally {
+			pool.shutdown();
+		}
+	}
+
+	/**
+	 * Lists one directory and forks the listing of its subdirectories.
+	 */
+	private final class Listing extends RecursiveTask<List<Path>> {
+		private static final long serialVersionUID = 1L;
+
+		private final Path directory;
+		private final int depth;
+		private final Predicate<Path> matcher;
+
+		Listing(final Path directory, final int depth, final Predicate<Path> matcher) {
+			this.directory = directory;
+			this.depth = depth;
+			this.matcher = matcher;
+		}
 
+		@Override
+		protected List<Path> compute() {
+			final List<Path> paths = new ArrayList<>();
+			final List<Listing> subdirectories = new ArrayList<>();
+			try (final DirectoryStream<Path> entries = Files.newDirectoryStream(directory)) {
+				for (Path entry : entries) {
+					if (matcher.test(entry)) {
+						paths.add(entry);
+					}
+					if (depth < maxDepth && Files.isDirectory(entry, LinkOption.NOFOLLOW_LINKS)) {
+						final Listing listing = new Listing(entry, depth + 1, matcher);
+						listing.fork();
+						subdirectories.add(listing);
+					}
+				}
+			} catch (IOException e) {
+				throw new UncheckedIOException(e);
+			}
+			for (Listing listing : subdirectories) {
+				paths.addAll(listing.join());
+			}
+			return paths;
+		}
 	}
 }
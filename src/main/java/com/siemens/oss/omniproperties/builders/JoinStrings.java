@@ -17,21 +17,29 @@
 package com.siemens.oss.omniproperties.builders;
 
 
+import java.io.IOException;
 import java.util.List;
 
+import net.sf.oval.constraint.MinSize;
 import net.sf.oval.constraint.NotEmpty;
 import net.sf.oval.constraint.NotNull;
 
 import com.siemens.oss.omniproperties.ObjectBuilder;
 
 /**
+ * Joins strings with a delimiter. Each string is enclosed in
+ * <code>quote</code>, and occurrences of <code>quote</code> in it are
+ * prefixed by <code>escape</code>. The strings are joined in one pass into a
+ * pre-sized buffer, or streamed with {@link #writeTo(Appendable)}. See
+ * {@link JoinStringsToFile} to write large joins to a file.
+ * 
  * @author Kai Heesche
  *
  */
 public class JoinStrings implements ObjectBuilder<String> {
 
 	@NotNull
-	@NotEmpty
+	@MinSize(1)
 	private final String[] strings;
 	
 	@NotNull
@@ -65,23 +73,55 @@ public class JoinStrings implements ObjectBuilder<String> {
 	
 	@Override
 	public String build() {
-		
-		String result="";
+		final StringBuilder builder = new StringBuilder(estimateLength());
+		try {
+			writeTo(builder);
+		} catch (IOException e) {
+			// a StringBuilder does not throw
+			throw new IllegalStateException(e);
+		}
+		return builder.toString();
+	}
 
-		boolean first=true;
-		for (String s : strings) 
-		{
-			s=s.replace(quote, escape+quote);
-			if(first)
-			{
-				result=quote+s+quote;
-				first=false;
-			}
-			else
-			{
-				result+=delimiter+quote+s+quote;
+	/**
+	 * Writes the joined strings without building them in memory, e.g. to a
+	 * {@link java.io.Writer}.
+	 * 
+	 * @param out
+	 * @throws IOException
+	 */
+	public void writeTo(final Appendable out) throws IOException {
+		for (int i = 0; i < strings.length; i++) {
+			if (i > 0) {
+				out.append(delimiter);
 			}
+			out.append(quote);
+			appendEscaped(strings[i], out);
+			out.append(quote);
+		}
+	}
+
+	private void appendEscaped(final String string, final Appendable out) throws IOException {
+		if (quote.isEmpty()) {
+			out.append(string);
+			return;
+		}
+		int start = 0;
+		int index = string.indexOf(quote);
+		while (index >= 0) {
+			out.append(string, start, index).append(escape).append(quote);
+			start = index + quote.length();
+			index = string.indexOf(quote, start);
+		}
+		out.append(string, start, string.length());
+	}
+
+	private int estimateLength() {
+		long length = (long) Math.max(0, strings.length - 1) * delimiter.length() + 2L * strings.length
+				* quote.length();
+		for (String string : strings) {
+			length += string.length();
 		}
-		return result;
+		return (int) Math.min(length, Integer.MAX_VALUE - 8);
 	}
 }
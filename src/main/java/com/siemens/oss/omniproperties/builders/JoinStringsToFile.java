@@ -0,0 +1,75 @@
+/*
+* Copyright Siemens AG, 2026
+*
+* Licensed under the Apache License, Version 2.0 the "License";
+* you may not use this file except in compliance with the License.
+* You may obtain a copy of the License at
+*
+* http://www.apache.org/licenses/LICENSE-2.0
+*
+* Unless required by applicable law or agreed to in writing, software
+* distributed under the License is distributed on an "AS IS" BASIS,
+* WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+* See the License for the specific language governing permissions and
+* limitations under the License.
+*/
+
+package com.siemens.oss.omniproperties.builders;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.Charset;
+import java.nio.file.Files;
+import java.util.List;
+
+import net.sf.oval.constraint.AssertValid;
+import net.sf.oval.constraint.NotNull;
+
+import com.siemens.oss.omniproperties.ObjectBuilder;
+
+/**
+ * Streams the result of {@link JoinStrings} into a file instead of building a
+ * string, for very large joins. Provides the file.
+ */
+public class JoinStringsToFile implements ObjectBuilder<File> {
+
+	@AssertValid
+	private final JoinStrings join;
+
+	@NotNull
+	private final File file;
+
+	/**
+	 * charset of the file, by default the platform charset
+	 */
+	@NotNull
+	private String charset = Charset.defaultCharset().name();
+
+	public JoinStringsToFile(final String[] strings, final String delimiter, final String quote, final String escape,
+			final File file) {
+		this.join = new JoinStrings(strings, delimiter, quote, escape);
+		this.file = file;
+	}
+
+	public JoinStringsToFile(final String[] strings, final String delimiter, final File file) {
+		this(strings, delimiter, "", "", file);
+	}
+
+	public JoinStringsToFile(final List<String> strings, final String delimiter, final File file) {
+		this(strings.toArray(new String[strings.size()]), delimiter, file);
+	}
+
+	public JoinStringsToFile(final List<String> strings, final String delimiter, final String quote,
+			final String escape, final File file) {
+		this(strings.toArray(new String[strings.size()]), delimiter, quote, escape, file);
+	}
+
+	@Override
+	public File build() throws IOException {
+		try (final Writer writer = Files.newBufferedWriter(file.toPath(), Charset.forName(charset))) {
+			join.writeTo(writer);
+		}
+		return file;
+	}
+}
@@ -0,0 +1,99 @@
+/*
+* Copyright Siemens AG, 2026
+*
+* Licensed under the Apache License, Version 2.0 the "License";
+* you may not use this file except in compliance with the License.
+* You may obtain a copy of the License at
+*
+* http://www.apache.org/licenses/LICENSE-2.0
+*
+* Unless required by applicable law or agreed to in writing, software
+* distributed under the License is distributed on an "AS IS" BASIS,
+* WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+* See the License for the specific language governing permissions and
+* limitations under the License.
+*/
+
+package com.siemens.oss.omniproperties.builders;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.Charset;
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.RandomAccess;
+
+import net.sf.oval.constraint.NotNull;
+
+import com.siemens.oss.omniproperties.ObjectBuilder;
+import com.siemens.oss.omniproperties.util.MappedLines;
+
+/**
+ * Provides the lines of files as read-only list, in the order of the files.
+ * The files are memory-mapped and a line is decoded only when it is read (see
+ * {@link MappedLines}). Hence, large files do not have to fit into the heap as
+ * <code>String</code>s as with {@link StringArrayFromFile}.
+ */
+public class LinesFromFile implements ObjectBuilder<List<String>> {
+
+	private final File[] files;
+
+	/**
+	 * charset of the files, by default the platform charset
+	 */
+	@NotNull
+	private String charset = Charset.defaultCharset().name();
+
+	public LinesFromFile(final File... files) {
+		this.files = files;
+	}
+
+	public LinesFromFile(final File file) {
+		this.files = new File[] { file };
+	}
+
+	@Override
+	public List<String> build() throws IOException {
+		final Charset fileCharset = Charset.forName(charset);
+		final MappedLines[] lines = new MappedLines[files.length];
+		for (int i = 0; i < files.length; i++) {
+			lines[i] = new MappedLines(files[i], fileCharset);
+		}
+		return lines.length == 1 ? lines[0] : new Concatenation(lines);
+	}
+
+	private static final class Concatenation extends AbstractList<String> implements RandomAccess {
+		private final MappedLines[] lines;
+		private final int[] offsets;
+
+		Concatenation(final MappedLines[] lines) {
+			this.lines = lines;
+			this.offsets = new int[lines.length + 1];
+			for (int i = 0; i < lines.length; i++) {
+				offsets[i + 1] = offsets[i] + lines[i].size();
+			}
+		}
+
+		@Override
+		public String get(final int index) {
+			if (index < 0 || index >= size()) {
+				throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size());
+			}
+			int file = Arrays.binarySearch(offsets, index);
+			if (file < 0) {
+				file = -file - 2;
+			} else {
+				while (offsets[file + 1] == index) {
+					file++;
+				}
+			}
+			return lines[file].get(index - offsets[file]);
+		}
+
+		@Override
+		public int size() {
+			return offsets[lines.length];
+		}
+	}
+}
@@ -0,0 +1,78 @@
+/*
+* Copyright Siemens AG, 2026
+*
+* Licensed under the Apache License, Version 2.0 the "License";
+* you may not use this file except in compliance with the License.
+* You may obtain a copy of the License at
+*
+* http://www.apache.org/licenses/LICENSE-2.0
+*
+* Unless required by applicable law or agreed to in writing, software
+* distributed under the License is distributed on an "AS IS" BASIS,
+* WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+* See the License for the specific language governing permissions and
+* limitations under the License.
+*/
+
+package com.siemens.oss.omniproperties.builders;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.Buffer;
+
+import net.sf.oval.constraint.MemberOf;
+import net.sf.oval.constraint.Min;
+import net.sf.oval.constraint.NotNull;
+
+import com.siemens.oss.omniproperties.ObjectBuilder;
+import com.siemens.oss.omniproperties.util.BinaryArrays;
+
+/**
+ * Provides a raw binary file (see {@link ArrayFromBinaryFile}) as read-only,
+ * memory-mapped buffer instead of an array. Nothing is copied into the heap,
+ * and JVMs on one host mapping the same file share its pages:
+ * 
+ * <pre>
+ * table = MappedArray(File('table.bin'))[type='double'];
+ * x = SelectArrayItemByIndex(table, 42);
+ * </pre>
+ * 
+ * <code>getObject("table", DoubleBuffer.class)</code> returns the buffer. As
+ * the buffer is shared, read it with absolute gets like
+ * <code>get(index)</code>, or work on a <code>duplicate()</code>. A buffer
+ * covers at most 2 GB; map larger files in windows with <code>offset</code>
+ * and <code>length</code> (in elements).
+ */
+public class MappedArray implements ObjectBuilder<Buffer> {
+
+	@NotNull
+	private final File file;
+
+	@NotNull
+	@MemberOf({ "byte", "short", "int", "long", "float", "double" })
+	private String type = "double";
+
+	@NotNull
+	@MemberOf({ "big", "little", "native" })
+	private String byteOrder = "big";
+
+	/**
+	 * index of the first element to map
+	 */
+	@Min(0)
+	private long offset;
+
+	/**
+	 * number of elements to map, by default all up to the end of the file
+	 */
+	private long length = -1;
+
+	public MappedArray(final File file) {
+		this.file = file;
+	}
+
+	@Override
+	public Buffer build() throws IOException {
+		return BinaryArrays.map(file, BinaryArrays.typeOf(type), BinaryArrays.byteOrderOf(byteOrder), offset, length);
+	}
+}
@@ -16,26 +16,54 @@
 
 package com.siemens.oss.omniproperties.builders;
 
+import java.io.IOException;
+
 import com.siemens.oss.omniproperties.ObjectBuilder;
 /**
+ * Encloses each string of an array in a prefix and a postfix. Use
+ * {@link #writeTo(Appendable, String)} to stream the modified strings instead
+ * of holding them in memory.
+ * 
  * @author Kai Heesche
  * 
  */
 public final class ModifyStringArray implements ObjectBuilder<Object> {
 
-	final private String[] newArray;
+	final private String[] array;
+	final private String prefix;
+	final private String postfix;
 	
 	public ModifyStringArray(String[] array, String prefix, String postfix) {
-		newArray=new String[array.length];
-		for(int i=0;i<array.length;i++)
-		{
-			newArray[i]=prefix+array[i]+postfix;
-		}
+		this.array = array;
+		this.prefix = prefix;
+		this.postfix = postfix;
 	}
 	
 	@Override
 	public Object build() throws Exception {
-		return  newArray;
+		final String[] newArray = new String[array.length];
+		final int extraLength = prefix.length() + postfix.length();
+		for (int i = 0; i < array.length; i++) {
+			newArray[i] = new StringBuilder(array[i].length() + extraLength).append(prefix).append(array[i])
+					.append(postfix).toString();
+		}
+		return newArray;
+	}
+
+	/**
+	 * Writes the modified strings, separated by <code>delimiter</code>.
+	 * 
+	 * @param out
+	 * @param delimiter
+	 * @throws IOException
+	 */
+	public void writeTo(final Appendable out, final String delimiter) throws IOException {
+		for (int i = 0; i < array.length; i++) {
+			if (i > 0) {
+				out.append(delimiter);
+			}
+			out.append(prefix).append(array[i]).append(postfix);
+		}
 	}
 
 }
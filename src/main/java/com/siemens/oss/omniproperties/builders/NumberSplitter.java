@@ -0,0 +1,61 @@
+/*
+* Copyright Siemens AG, 2026
+*
+* Licensed under the Apache License, Version 2.0 the "License";
+* you may not use this file except in compliance with the License.
+* You may obtain a copy of the License at
+*
+* http://www.apache.org/licenses/LICENSE-2.0
+*
+* Unless required by applicable law or agreed to in writing, software
+* distributed under the License is distributed on an "AS IS" BASIS,
+* WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+* See the License for the specific language governing permissions and
+* limitations under the License.
+*/
+
+package com.siemens.oss.omniproperties.builders;
+
+import net.sf.oval.constraint.MemberOf;
+import net.sf.oval.constraint.NotNull;
+
+import com.siemens.oss.omniproperties.ObjectBuilder;
+
+/**
+ * Omniproperties builder which splits a String like {@link StringSplitter}
+ * and provides the trimmed parts as primitive array of <code>type</code>
+ * <code>int</code> (default), <code>long</code> or <code>double</code>:
+ * 
+ * <pre>
+ * ids = NumberSplitter('1, 2, 3');
+ * weights = NumberSplitter('0.5;0.25', ';')[type='double'];
+ * </pre>
+ */
+public class NumberSplitter implements ObjectBuilder<Object> {
+
+	private final StringSplitter splitter;
+
+	@NotNull
+	@MemberOf({ "int", "long", "double" })
+	private String type = "int";
+
+	public NumberSplitter(final String str) {
+		this.splitter = new StringSplitter(str);
+	}
+
+	public NumberSplitter(final String str, final String delim_regex) {
+		this.splitter = new StringSplitter(str, delim_regex);
+	}
+
+	@Override
+	public Object build() {
+		switch (type) {
+		case "long":
+			return splitter.toLongs();
+		case "double":
+			return splitter.toDoubles();
+		default:
+			return splitter.toInts();
+		}
+	}
+}
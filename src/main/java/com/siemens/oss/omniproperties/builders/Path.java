@@ -19,12 +19,14 @@ package com.siemens.oss.omniproperties.builders;
 import java.io.IOException;
 import java.nio.file.Paths;
 
+import com.siemens.oss.omniproperties.Immutable;
 import com.siemens.oss.omniproperties.ObjectBuilder;
 
 /**
  * @author Markus Michael Geipel
  *
  */
+@Immutable
 public class Path implements ObjectBuilder<java.nio.file.Path> {
 
 	final private java.nio.file.Path path;
@@ -16,8 +16,18 @@
 
 package com.siemens.oss.omniproperties.builders;
 
+import java.nio.ByteBuffer;
+import java.nio.DoubleBuffer;
+import java.nio.FloatBuffer;
+import java.nio.IntBuffer;
+import java.nio.LongBuffer;
+import java.nio.ShortBuffer;
+
 import com.siemens.oss.omniproperties.ObjectBuilder;
 /**
+ * Selects the element at an index of an array or of a buffer, e.g. of a
+ * {@link MappedArray}. Buffers are read with absolute gets, without copying.
+ * 
  * @author Kai Heesche
  * 
  */
@@ -37,6 +47,10 @@ public final class SelectArrayItemByIndex implements ObjectBuilder<Object> {
 		this.value = Double.valueOf(array[index]);
 	}
 	
+	public SelectArrayItemByIndex(double[] array, int index) {
+		this.value = Double.valueOf(array[index]);
+	}
+	
 	public SelectArrayItemByIndex(byte[] array, int index) {
 		this.value = Byte.valueOf(array[index]);
 	}
@@ -53,6 +67,30 @@ public final class SelectArrayItemByIndex implements ObjectBuilder<Object> {
 		this.value = Boolean.valueOf(array[index]);
 	}
 	
+	public SelectArrayItemByIndex(DoubleBuffer buffer, int index) {
+		this.value = Double.valueOf(buffer.get(index));
+	}
+	
+	public SelectArrayItemByIndex(FloatBuffer buffer, int index) {
+		this.value = Float.valueOf(buffer.get(index));
+	}
+	
+	public SelectArrayItemByIndex(LongBuffer buffer, int index) {
+		this.value = Long.valueOf(buffer.get(index));
+	}
+	
+	public SelectArrayItemByIndex(IntBuffer buffer, int index) {
+		this.value = Integer.valueOf(buffer.get(index));
+	}
+	
+	public SelectArrayItemByIndex(ShortBuffer buffer, int index) {
+		this.value = Short.valueOf(buffer.get(index));
+	}
+	
+	public SelectArrayItemByIndex(ByteBuffer buffer, int index) {
+		this.value = Byte.valueOf(buffer.get(index));
+	}
+	
 	@Override
 	public Object build() throws Exception {
 		return  value;
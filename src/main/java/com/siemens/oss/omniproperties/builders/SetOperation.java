@@ -0,0 +1,67 @@
+/*
+* Copyright Siemens AG, 2026
+*
+* Licensed under the Apache License, Version 2.0 the "License";
+* you may not use this file except in compliance with the License.
+* You may obtain a copy of the License at
+*
+* http://www.apache.org/licenses/LICENSE-2.0
+*
+* Unless required by applicable law or agreed to in writing, software
+* distributed under the License is distributed on an "AS IS" BASIS,
+* WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+* See the License for the specific language governing permissions and
+* limitations under the License.
+*/
+
+package com.siemens.oss.omniproperties.builders;
+
+import java.util.BitSet;
+
+import com.siemens.oss.omniproperties.ObjectBuilder;
+import com.siemens.oss.omniproperties.util.ArraySets;
+
+/**
+ * Base of the builders of set operations on arrays. The representation of the
+ * result is chosen by <code>output</code>:
+ * <ul>
+ * <li><code>array</code> (default): array of the type of the first argument,
+ * in the order defined by the operation</li>
+ * <li><code>sorted</code>: sorted array of the same type without duplicates</li>
+ * <li><code>bitset</code>: {@link BitSet}, the most compact representation for
+ * dense domains of non-negative integers</li>
+ * </ul>
+ */
+abstract class SetOperation implements ObjectBuilder<Object> {
+
+	public static final String ARRAY = "array";
+	public static final String SORTED = "sorted";
+	public static final String BITSET = "bitset";
+
+	private String output = ARRAY;
+
+	public final void setOutput(final String output) {
+		if (!ARRAY.equals(output) && !SORTED.equals(output) && !BITSET.equals(output)) {
+			throw new IllegalArgumentException("output must be one of '" + ARRAY + "', '" + SORTED + "', '" + BITSET
+					+ "', not '" + output + "'.");
+		}
+		this.output = output;
+	}
+
+	/**
+	 * @return the result of the operation as array
+	 */
+	protected abstract Object result() throws Exception;
+
+	@Override
+	public final Object build() throws Exception {
+		final Object result = result();
+		if (SORTED.equals(output)) {
+			return ArraySets.sortedSet(result);
+		}
+		if (BITSET.equals(output)) {
+			return ArraySets.bitSet(result);
+		}
+		return result;
+	}
+}
@@ -18,21 +18,55 @@ package com.siemens.oss.omniproperties.builders;
 
 import java.io.BufferedReader;
 import java.io.File;
-import java.io.FileReader;
 import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.Charset;
+import java.nio.file.Files;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+
+import net.sf.oval.constraint.Min;
+import net.sf.oval.constraint.NotNull;
 
 import com.siemens.oss.omniproperties.ObjectBuilder;
 
 /**
+ * Reads the lines of files into one array, in the order of the files. With
+ * <code>parallelity</code> &gt; 1, files are read concurrently. The lines of
+ * each file are collected in a list presized from the length of the file,
+ * and then copied into the result array. See
+ * {@link LinesFromFile} for a view which does not hold all lines as
+ * <code>String</code>s.
+ * 
  * @author Markus Michael Geipel
  *
  */
 public class StringArrayFromFile implements ObjectBuilder<String[]> {
 
+	private static final int BUFFER_SIZE = 1 << 16;
+	private static final int ESTIMATED_BYTES_PER_LINE = 32;
+	private static final int MAX_ESTIMATED_LINES = Integer.MAX_VALUE - 8;
+
 	private final File[] files;
 
+	/**
+	 * charset of the files, by default the platform charset
+	 */
+	@NotNull
+	private String charset = Charset.defaultCharset().name();
+
+	/**
+	 * number of files read concurrently
+	 */
+	@Min(1)
+	private int parallelity = 1;
+
 	public StringArrayFromFile(final File... files) {
 		this.files = files;
 	}
@@ -43,22 +77,83 @@ public class StringArrayFromFile implements ObjectBuilder<String[]> {
 
 	@Override
 	public String[] build() throws IOException {
-		final List<String> list = new ArrayList<>();
-		for (File file : files) {
-			final BufferedReader br = new BufferedReader(new FileReader(file));
-			try {
+		final List<List<String>> lines = parallelity > 1 && files.length > 1 ? readConcurrently() : readSequentially();
+		int size = 0;
+		for (List<String> fileLines : lines) {
+			size += fileLines.size();
+		}
+		if (lines.size() == 1) {
+			return lines.get(0).toArray(new String[size]);
+		}
+		final String[] array = new String[size];
+		int index = 0;
+		for (List<String> fileLines : lines) {
+			for (String line : fileLines) {
+				array[index++] = line;
+			}
+		}
+		return array;
+	}
 
-				String line = br.readLine();
+	private List<List<String>> readSequentially() throws IOException {
+		final Charset fileCharset = Charset.forName(charset);
+		final List<List<String>> lines = new ArrayList<>(files.length);
+		for (File file : files) {
+			lines.add(readLines(file, fileCharset));
+		}
+		return lines;
+	}
 
-				while (line != null) {
-					list.add(line);
-					line = br.readLine();
-				}
+	private List<List<String>> readConcurrently() throws IOException {
+		final Charset fileCharset = Charset.forName(charset);
+		final ExecutorService executor = Executors.newFixedThreadPool(Math.min(parallelity, files.length),
+				new ThreadFactory() {
+					@Override
+					public Thread newThread(Runnable runnable) {
+						final Thread thread = new Thread(runnable, "omniproperties-read");
+						thread.setDaemon(true);
+						return thread;
+					}
+				});
+		try {
+			final List<Future<List<String>>> futures = new ArrayList<>(files.length);
+			for (final File file : files) {
+				futures.add(executor.submit(new Callable<List<String>>() {
+					@Override
+					public List<String> call() throws IOException {
+						return readLines(file, fileCharset);
+					}
+				}));
+			}
+			final List<List<String>> lines = new ArrayList<>(files.length);
+			for (Future<List<String>> future : futures) {
+				lines.add(future.get());
+			}
+			return lines;
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new IOException(e);
+		} catch (ExecutionException e) {
+			if (e.getCause() instanceof IOException) {
+				throw (IOException) e.getCause();
+			}
+			throw new IOException(e.getCause());
+		} finally {
+			executor.shutdownNow();
+		}
+	}
 
-			} finally {
-				br.close();
+	private static List<String> readLines(final File file, final Charset charset) throws IOException {
+		final long estimatedLines = file.length() / ESTIMATED_BYTES_PER_LINE + 1;
+		final List<String> lines = new ArrayList<>((int) Math.min(estimatedLines, MAX_ESTIMATED_LINES));
+		try (final BufferedReader reader = new BufferedReader(new InputStreamReader(Files.newInputStream(file.toPath()),
+				charset), BUFFER_SIZE)) {
+			String line = reader.readLine();
+			while (line != null) {
+				lines.add(line);
+				line = reader.readLine();
 			}
 		}
-		return list.toArray(new String[list.size()]);
+		return lines;
 	}
 }
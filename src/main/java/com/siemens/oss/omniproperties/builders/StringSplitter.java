@@ -16,17 +16,32 @@
 
 package com.siemens.oss.omniproperties.builders;
 
+import java.util.Arrays;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
 import com.siemens.oss.omniproperties.ObjectBuilder;
+import com.siemens.oss.omniproperties.util.NumberParser;
 
 /**
  * Omniproperties builder which takes a String and a delimiter (regex) and
  * provides a String Array of the string parts between occurrences of the
  * delimiter.
  * 
+ * Delimiters without regex meta characters are found by a plain index scan.
+ * Other delimiters are compiled once and cached. {@link #toInts()},
+ * {@link #toLongs()} and {@link #toDoubles()} parse the parts without
+ * creating a String array (see also {@link NumberSplitter}).
+ * 
  * @author Holger Schoener <holger.schoener@siemens.com>
  *
  */
 public class StringSplitter implements ObjectBuilder<String[]> {
+
+	private static final String REGEX_META_CHARACTERS = ".$|()[]{}^?*+\\";
+	private static final ConcurrentMap<String, Pattern> PATTERNS = new ConcurrentHashMap<>();
 	
 	private final String str;
 	private final String delim_regex;
@@ -58,11 +73,141 @@ public class StringSplitter implements ObjectBuilder<String[]> {
 
 	@Override
 	public String[] build(){
-		String[] elements = this.str.split(this.delim_regex);
-		if (trim)
-			for (int i=0; i < elements.length; ++i) {
-				elements[i] = elements[i].trim();
-			}
+		final int[] parts = parts();
+		final String[] elements = new String[parts.length / 2];
+		for (int i = 0; i < elements.length; i++) {
+			elements[i] = str.substring(parts[2 * i], parts[2 * i + 1]);
+		}
 		return elements;
 	}
+
+	/**
+	 * @return the parts parsed as <code>int</code>s
+	 * @throws NumberFormatException
+	 */
+	public int[] toInts() {
+		final int[] parts = parts();
+		final int[] values = new int[parts.length / 2];
+		for (int i = 0; i < values.length; i++) {
+			values[i] = NumberParser.parseInt(str, parts[2 * i], parts[2 * i + 1]);
+		}
+		return values;
+	}
+
+	/**
+	 * @return the parts parsed as <code>long</code>s
+	 * @throws NumberFormatException
+	 */
+	public long[] toLongs() {
+		final int[] parts = parts();
+		final long[] values = new long[parts.length / 2];
+		for (int i = 0; i < values.length; i++) {
+			values[i] = NumberParser.parseLong(str, parts[2 * i], parts[2 * i + 1]);
+		}
+		return values;
+	}
+
+	/**
+	 * @return the parts parsed as <code>double</code>s
+	 * @throws NumberFormatException
+	 */
+	public double[] toDoubles() {
+		final int[] parts = parts();
+		final double[] values = new double[parts.length / 2];
+		for (int i = 0; i < values.length; i++) {
+			values[i] = NumberParser.parseDouble(str, parts[2 * i], parts[2 * i + 1]);
+		}
+		return values;
+	}
+
+	/**
+	 * Finds the parts with the semantics of {@link String#split(String)}:
+	 * trailing empty parts are removed, and a string without delimiter is one
+	 * part.
+	 * 
+	 * @return start and end index of each part, trimmed if requested
+	 */
+	private int[] parts() {
+		int[] parts = new int[16];
+		int count = 0;
+		int index = 0;
+		final String literal = literalOf(delim_regex);
+		if (literal != null) {
+			for (int match = str.indexOf(literal); match >= 0; match = str.indexOf(literal, index)) {
+				parts = add(parts, count, index, match);
+				count += 2;
+				index = match + literal.length();
+			}
+		} else {
+			final Matcher matcher = patternOf(delim_regex).matcher(str);
+			while (matcher.find()) {
+				if (index == 0 && matcher.start() == 0 && matcher.end() == 0) {
+					continue;
+				}
+				parts = add(parts, count, index, matcher.start());
+				count += 2;
+				index = matcher.end();
+			}
+		}
+		if (count == 0) {
+			return trimmed(new int[] { 0, str.length() });
+		}
+		parts = add(parts, count, index, str.length());
+		count += 2;
+		while (count > 0 && parts[count - 2] == parts[count - 1]) {
+			count -= 2;
+		}
+		return trimmed(Arrays.copyOf(parts, count));
+	}
+
+	private static int[] add(int[] parts, final int count, final int start, final int end) {
+		if (count == parts.length) {
+			parts = Arrays.copyOf(parts, parts.length * 2);
+		}
+		parts[count] = start;
+		parts[count + 1] = end;
+		return parts;
+	}
+
+	private int[] trimmed(final int[] parts) {
+		if (trim) {
+			for (int i = 0; i < parts.length; i += 2) {
+				while (parts[i] < parts[i + 1] && str.charAt(parts[i]) <= ' ') {
+					parts[i]++;
+				}
+				while (parts[i + 1] > parts[i] && str.charAt(parts[i + 1] - 1) <= ' ') {
+					parts[i + 1]--;
+				}
+			}
+		}
+		return parts;
+	}
+
+	/**
+	 * @return the delimiter as literal string if the regex matches just that
+	 *         string, <code>null</code> otherwise
+	 */
+	static String literalOf(final String regex) {
+		if (regex.length() == 2 && regex.charAt(0) == '\\' && !Character.isLetterOrDigit(regex.charAt(1))) {
+			return regex.substring(1);
+		}
+		if (regex.isEmpty()) {
+			return null;
+		}
+		for (int i = 0; i < regex.length(); i++) {
+			if (REGEX_META_CHARACTERS.indexOf(regex.charAt(i)) >= 0) {
+				return null;
+			}
+		}
+		return regex;
+	}
+
+	private static Pattern patternOf(final String regex) {
+		Pattern pattern = PATTERNS.get(regex);
+		if (pattern == null) {
+			pattern = Pattern.compile(regex);
+			PATTERNS.putIfAbsent(regex, pattern);
+		}
+		return pattern;
+	}
 }
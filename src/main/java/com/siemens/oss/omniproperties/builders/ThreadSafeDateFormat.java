@@ -0,0 +1,125 @@
+/*
+* Copyright Siemens AG, 2026
+*
+* Licensed under the Apache License, Version 2.0 the "License";
+* you may not use this file except in compliance with the License.
+* You may obtain a copy of the License at
+*
+* http://www.apache.org/licenses/LICENSE-2.0
+*
+* Unless required by applicable law or agreed to in writing, software
+* distributed under the License is distributed on an "AS IS" BASIS,
+* WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+* See the License for the specific language governing permissions and
+* limitations under the License.
+*/
+
+package com.siemens.oss.omniproperties.builders;
+
+import java.text.AttributedCharacterIterator;
+import java.text.DateFormat;
+import java.text.FieldPosition;
+import java.text.NumberFormat;
+import java.text.ParsePosition;
+import java.text.SimpleDateFormat;
+import java.util.Calendar;
+import java.util.Date;
+import java.util.TimeZone;
+
+/**
+ * Immutable, thread safe {@link DateFormat}. Formatting and parsing are
+ * delegated to a copy of a {@link SimpleDateFormat} per thread, so no
+ * synchronization is needed and no formatter is created per call. Setters
+ * throw an {@link UnsupportedOperationException}.
+ */
+public final class ThreadSafeDateFormat extends DateFormat {
+
+	private static final long serialVersionUID = 1L;
+
+	private final SimpleDateFormat template;
+	private transient ThreadLocal<SimpleDateFormat> formats;
+
+	public ThreadSafeDateFormat(final SimpleDateFormat template) {
+		this.template = (SimpleDateFormat) template.clone();
+		this.calendar = (Calendar) template.getCalendar().clone();
+		this.numberFormat = (NumberFormat) template.getNumberFormat().clone();
+	}
+
+	private SimpleDateFormat format() {
+		ThreadLocal<SimpleDateFormat> local = formats;
+		if (local == null) {
+			local = new ThreadLocal<SimpleDateFormat>() {
+				@Override
+				protected SimpleDateFormat initialValue() {
+					return (SimpleDateFormat) template.clone();
+				}
+			};
+			formats = local;
+		}
+		return local.get();
+	}
+
+	public String toPattern() {
+		return template.toPattern();
+	}
+
+	@Override
+	public StringBuffer format(final Date date, final StringBuffer toAppendTo, final FieldPosition fieldPosition) {
+		return format().format(date, toAppendTo, fieldPosition);
+	}
+
+	@Override
+	public AttributedCharacterIterator formatToCharacterIterator(final Object obj) {
+		return format().formatToCharacterIterator(obj);
+	}
+
+	@Override
+	public Date parse(final String source, final ParsePosition pos) {
+		return format().parse(source, pos);
+	}
+
+	@Override
+	public TimeZone getTimeZone() {
+		return (TimeZone) template.getTimeZone().clone();
+	}
+
+	@Override
+	public void setTimeZone(final TimeZone zone) {
+		throw new UnsupportedOperationException("ThreadSafeDateFormat is immutable");
+	}
+
+	@Override
+	public void setLenient(final boolean lenient) {
+		throw new UnsupportedOperationException("ThreadSafeDateFormat is immutable");
+	}
+
+	@Override
+	public void setCalendar(final Calendar newCalendar) {
+		throw new UnsupportedOperationException("ThreadSafeDateFormat is immutable");
+	}
+
+	@Override
+	public void setNumberFormat(final NumberFormat newNumberFormat) {
+		throw new UnsupportedOperationException("ThreadSafeDateFormat is immutable");
+	}
+
+	@Override
+	public Object clone() {
+		return this;
+	}
+
+	@Override
+	public boolean equals(final Object obj) {
+		return obj instanceof ThreadSafeDateFormat && template.equals(((ThreadSafeDateFormat) obj).template);
+	}
+
+	@Override
+	public int hashCode() {
+		return template.hashCode();
+	}
+
+	@Override
+	public String toString() {
+		return "ThreadSafeDateFormat[" + template.toPattern() + ", " + template.getTimeZone().getID() + "]";
+	}
+}
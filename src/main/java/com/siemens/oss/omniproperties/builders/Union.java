@@ -1,45 +1,25 @@
 package com.siemens.oss.omniproperties.builders;
 
-import java.lang.reflect.Array;
-import java.util.ArrayList;
-import java.util.HashSet;
-import java.util.List;
-import java.util.Set;
+import com.siemens.oss.omniproperties.util.ArraySets;
 
-import com.siemens.oss.omniproperties.ObjectBuilder;
-import com.siemens.oss.omniproperties.util.ReflectionUtil;
-
-public final class Union implements ObjectBuilder<Object> {
+/**
+ * Omniproperties builder which takes a number of Arrays (at least one) and
+ * provides another Array of the same type as the first provided Array
+ * containing each element of the provided Arrays once, in the order of first
+ * occurrence. Primitives are not boxed (see {@link ArraySets}). See
+ * {@link SetOperation} for other representations of the result.
+ * 
+ */
+public final class Union extends SetOperation {
 
 	private final Object unionArray;
 	
 	public Union(final Object[] arrays) {
-		if(arrays.length==0){
-			throw new IllegalArgumentException("No arrays given.");
-		}
-		final Set<Object> set = new HashSet<>();
-		final List<Object> union = new ArrayList<>();
-		for (int i = 0; i < arrays.length; i++) {
-			final Object array = arrays[i];
-			if (!arrays[i].getClass().isArray()) {
-				throw new IllegalArgumentException("Object " + i + " is not an array.");
-			}
-			
-			final int length = Array.getLength(array);
-			for (int j = 0; j < length; j++) {
-				Object element = Array.get(array, j);
-				if(!set.contains(element)){
-					union.add(element);
-					set.add(element);
-				}
-			}
-		}
-		unionArray = ReflectionUtil.createArray(union, arrays[0].getClass().getComponentType());
-
+		unionArray = ArraySets.union(arrays);
 	}
 
 	@Override
-	public Object build() throws Exception {
+	protected Object result() {
 		return unionArray;
 	}
 
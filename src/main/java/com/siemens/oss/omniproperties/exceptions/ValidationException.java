@@ -16,6 +16,9 @@
 
 package com.siemens.oss.omniproperties.exceptions;
 
+import java.util.Collection;
+import java.util.List;
+
 
 /**
  * @author Markus Michael Geipel
@@ -30,6 +33,30 @@ public class ValidationException extends RuntimeException {
 		super("Error validating instance of '"+obj.getClass().getCanonicalName()+"':" + string);
 	}
 
+	protected ValidationException(String message) {
+		super(message);
+	}
 
+	public static class CollectedValidationExceptions extends ValidationException {
+		private static final long serialVersionUID = 1L;
+		private final List<ValidationException> collection;
+
+		public CollectedValidationExceptions(List<ValidationException> exceptions) {
+			super(collect(exceptions));
+			collection = exceptions;
+		}
+
+		private static String collect(List<ValidationException> exceptions) {
+			final StringBuilder sb = new StringBuilder(exceptions.size() + " object(s) failed validation:\n");
+			for (ValidationException exception : exceptions) {
+				sb.append(exception.getMessage()).append("\n");
+			}
+			return sb.toString();
+		}
+
+		public Collection<ValidationException> getExceptions() {
+			return collection;
+		}
+	}
 
 }
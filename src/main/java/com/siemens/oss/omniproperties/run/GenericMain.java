@@ -11,6 +11,8 @@ import org.slf4j.LoggerFactory;
 import com.beust.jcommander.JCommander;
 import com.beust.jcommander.Parameter;
 import com.siemens.oss.omniproperties.OmniProperties;
+import com.siemens.oss.omniproperties.util.Profiler;
+import com.siemens.oss.omniproperties.util.ReflectionUtil;
 
 /**
  * Generic main class for oprops files. A variable <code>run</code> of type
@@ -18,6 +20,15 @@ import com.siemens.oss.omniproperties.OmniProperties;
  * The runner just reads the config and invokes <code>run()</code> on
  * <code>run</code>. 
  * 
+ * With <code>-shards n</code>, the config is run in n local JVMs, each
+ * restricted to one {@link Shard} of the items of a {@link ParallelRunnable}.
+ * <code>-shard i/n</code> runs a single shard, e.g. on another machine. The
+ * shard applies to <code>run</code> only, not to sweeps nested in its items.
+ * Note that with <code>-shards n</code> the config is read n + 1 times: once
+ * by the coordinating JVM to find the journal of the sweep and once by each
+ * shard. Builders with side effects should therefore not be used in sharded
+ * configs.
+ * 
  * @author Markus Michael Geipel
  * 
  */
@@ -31,6 +42,18 @@ public final class GenericMain implements Runnable {
 	
 	@Parameter(names = "-config", description = "Omniproperties file", required = true)
 	private File config;
+
+	@Parameter(names = "-shard", description = "Run only shard i of n of the items of ParallelRun, coded as i/n")
+	private String shard;
+
+	@Parameter(names = "-shards", description = "Split the items of ParallelRun into n shards, each run in a separate local JVM. The config is read once more by the coordinating JVM")
+	private int shards;
+
+	@Parameter(names = "-profile", description = "Profile reading the config. Writes a report to the given file and collapsed stacks for flame graphs to FILE.collapsed")
+	private File profile;
+
+	@Parameter(names = "-prewarm", description = "Load the classes of all class shortcuts on n background threads while the config is read")
+	private int prewarm;
 	
 	
 	@Parameter(names = "-help", help = true)
@@ -48,6 +71,48 @@ public final class GenericMain implements Runnable {
 
 	@Override
 	public void run() {
+		if (shards > 0 && shard != null) {
+			throw new IllegalArgumentException("-shard and -shards cannot be combined");
+		}
+		final Runnable run = loadProperties().getObject("run", Runnable.class);
+		if (shards > 0) {
+			// the shards read the config again; only the journal is needed here
+			new ShardCoordinator(config, args, shards, parallelRun(run, "-shards").getJournal()).run();
+			return;
+		}
+		if (shard != null) {
+			parallelRun(run, "-shard").setShard(shard);
+		}
+		run.run();
+	}
+
+	private static ParallelRunnable parallelRun(final Runnable run, final String option) {
+		if (!(run instanceof ParallelRunnable)) {
+			throw new IllegalArgumentException(option + " requires 'run' to be a ParallelRun, got " + run.getClass());
+		}
+		return (ParallelRunnable) run;
+	}
+
+	private OmniProperties loadProperties() {
+		if (profile == null) {
+			return readConfig();
+		}
+		Profiler.start();
+		try {
+			return readConfig();
+		} finally {
+			try {
+				Profiler.stop().write(profile);
+			} catch (IOException e) {
+				LOG.error("Error writing profile '" + profile + "'", e);
+			}
+		}
+	}
+
+	private OmniProperties readConfig() {
+		if (prewarm > 0) {
+			ReflectionUtil.prewarm(prewarm);
+		}
 		final OmniProperties properties = OmniProperties.create();
 		properties.put("BASE_DIR", config.getAbsoluteFile().getParentFile());
 		for(String arg:args){
@@ -63,7 +128,7 @@ public final class GenericMain implements Runnable {
 		} catch (IOException e) {
 			throw new RuntimeException(e);
 		}
-		properties.getObject("run", Runnable.class).run();
+		return properties;
 	}
 
 	public GenericMain(String[] args) {
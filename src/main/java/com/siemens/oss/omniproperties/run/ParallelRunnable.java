@@ -19,13 +19,16 @@ package com.siemens.oss.omniproperties.run;
 import java.io.File;
 import java.io.IOException;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
 
 import net.sf.oval.constraint.Min;
 import net.sf.oval.constraint.NotEmpty;
@@ -71,43 +74,171 @@ public final class ParallelRunnable implements Runnable {
 	@Min(1)
 	private int parallelity = Runtime.getRuntime().availableProcessors();
 
+	/**
+	 * optional journal of completed items. Items found in the journal are
+	 * skipped, newly completed items are appended. Allows to resume an
+	 * interrupted sweep.
+	 */
+	private File journal;
+
+	/**
+	 * number of journal records after which the journal is forced to disk.
+	 */
+	@Min(1)
+	private int journalSyncInterval = SweepJournal.DEFAULT_SYNC_INTERVAL;
+
+	/**
+	 * optional shard given as index/count. Only the items of this shard are
+	 * run, see {@link Shard}.
+	 */
+	private String shard;
+
+	/**
+	 * optional file receiving the {@link RunMetrics} at the end of the run.
+	 * CSV if the name ends with .csv, JSON otherwise.
+	 */
+	private File metrics;
+
+	/**
+	 * optional listener receiving the {@link RunMetrics}
+	 */
+	private RunMetricsListener metricsListener;
+
 	private final Map<String, Object> map = new HashMap<String, Object>();
 
 	@Override
 	public void run() {
 		final ExecutorService threadExecutor = Executors.newFixedThreadPool(parallelity);
+		final Shard currentShard = shard == null ? null : Shard.parse(shard);
+		final Set<String> completedBySweep = readSweepJournal(currentShard);
+		final SweepJournal sweepJournal = openJournal(currentShard);
+		final RunMetrics runMetrics = new RunMetrics(runOprops.getName(), parallelity, metricsListener);
 
+		Throwable failure = null;
 		try {
 			List<Future<?>> futures = new ArrayList<>();
-			for (Object item : items) {
+			for (int position = 0; position < items.length; position++) {
+				final Object item = items[position];
+				if (currentShard != null && !currentShard.contains(position)) {
+					continue;
+				}
+				if (sweepJournal != null
+						&& (sweepJournal.isCompleted(item) || completedBySweep.contains(SweepJournal.keyOf(item)))) {
+					LOG.info("Skipping run with " + itemName + "='" + item + "'; already completed according to journal");
+					continue;
+				}
 				LOG.info("Scheduling run with " + itemName + "='" + item + "'; parallelity=" + parallelity);
 				final OmniProperties simulationProperties = OmniProperties.create();
 				simulationProperties.put(itemName, item);
 				simulationProperties.putAll(map);
-				try {
-					simulationProperties.readFromFile(runOprops);
-				} catch (IOException e) {
-					throw new RuntimeException(e);
-				}
+				simulationProperties.readFromFile(runOprops);
 
 				final Runnable run = simulationProperties.getObject("run", Runnable.class);
-				futures.add(threadExecutor.submit(run));
+				final Runnable recorded = sweepJournal == null ? run : sweepJournal.recording(run, item);
+				futures.add(threadExecutor.submit(runMetrics.instrument(recorded, SweepJournal.keyOf(item))));
 			}
-			
-		
+
+			// the remaining runs are awaited after a failure, so that their
+			// metrics are complete
+			ExecutionException failedRun = null;
 			for (int i = 0; i < futures.size(); i++) {
-				futures.get(i).get();
-				LOG.info(i + " of " + futures.size() + " finished.");
+				try {
+					futures.get(i).get();
+					LOG.info(i + " of " + futures.size() + " finished.");
+				} catch (ExecutionException e) {
+					LOG.error(i + " of " + futures.size() + " failed.", e.getCause());
+					failedRun = failedRun == null ? e : failedRun;
+				}
 			}
-
-		} catch (InterruptedException | ExecutionException e) {
-			throw new RuntimeException(e);
+			if (failedRun != null) {
+				throw new RuntimeException(failedRun);
+			}
+		} catch (InterruptedException | IOException e) {
+			final RuntimeException wrapped = new RuntimeException(e);
+			failure = wrapped;
+			throw wrapped;
+		} catch (Throwable e) {
+			failure = e;
+			throw e;
 		} finally {
 			threadExecutor.shutdown();
+			awaitTermination(threadExecutor);
+			try {
+				closeJournal(sweepJournal);
+			} finally {
+				runMetrics.finish(metrics, failure);
+				LOG.info(runMetrics.toString());
+			}
 		}
 
 	}
 
+	/**
+	 * restricts this sweep to one shard of its items. Nested sweeps in the
+	 * configs run per item are not affected.
+	 * 
+	 * @param shard
+	 *            shard given as index/count
+	 */
+	public void setShard(final String shard) {
+		this.shard = Shard.parse(shard).toString();
+	}
+
+	/**
+	 * @return the journal of this sweep. Shards write to a journal of their
+	 *         own, see {@link Shard#journalOf(File)}.
+	 */
+	public File getJournal() {
+		return journal;
+	}
+
+	private SweepJournal openJournal(final Shard currentShard) {
+		if (journal == null) {
+			return null;
+		}
+		try {
+			return SweepJournal.open(currentShard == null ? journal : currentShard.journalOf(journal),
+					journalSyncInterval);
+		} catch (IOException e) {
+			throw new RuntimeException(e);
+		}
+	}
+
+	/**
+	 * a shard also skips the items recorded in the merged journal of the sweep
+	 */
+	private Set<String> readSweepJournal(final Shard currentShard) {
+		if (journal == null || currentShard == null) {
+			return Collections.emptySet();
+		}
+		try {
+			return SweepJournal.readCompleted(journal);
+		} catch (IOException e) {
+			throw new RuntimeException(e);
+		}
+	}
+
+	private static void awaitTermination(final ExecutorService threadExecutor) {
+		try {
+			// runs still in flight after a failure should make it into the
+			// journal and the metrics
+			threadExecutor.awaitTermination(Long.MAX_VALUE, TimeUnit.NANOSECONDS);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+
+	private static void closeJournal(final SweepJournal sweepJournal) {
+		if (sweepJournal == null) {
+			return;
+		}
+		try {
+			sweepJournal.close();
+		} catch (IOException e) {
+			throw new RuntimeException(e);
+		}
+	}
+
 	public void put(String key, Object value) {
 		map.put(key, value);
 	}
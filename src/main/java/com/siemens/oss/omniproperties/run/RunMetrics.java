@@ -0,0 +1,349 @@
+/*
+* Copyright Siemens AG, 2026
+*
+* Licensed under the Apache License, Version 2.0 the "License";
+* you may not use this file except in compliance with the License.
+* You may obtain a copy of the License at
+*
+* http://www.apache.org/licenses/LICENSE-2.0
+*
+* Unless required by applicable law or agreed to in writing, software
+* distributed under the License is distributed on an "AS IS" BASIS,
+* WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+* See the License for the specific language governing permissions and
+* limitations under the License.
+*/
+
+package com.siemens.oss.omniproperties.run;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.Writer;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.nio.charset.Charset;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Collects {@link TaskMetrics} for the tasks of a run and computes a summary:
+ * wall time percentiles, throughput, mean queue wait and pool utilization.
+ * The summary can be written as JSON or CSV.
+ */
+public final class RunMetrics {
+
+	private static final ThreadMXBean THREADS = ManagementFactory.getThreadMXBean();
+	private static final double NANOS_PER_MILLI = 1e6;
+	private static final double NANOS_PER_SECOND = 1e9;
+
+	private final String name;
+	private final int parallelity;
+	private final RunMetricsListener listener;
+	private final List<TaskMetrics> tasks = new ArrayList<>();
+	private final long start = System.nanoTime();
+	private long end;
+
+	/**
+	 * @param name
+	 *            name of the run, used in the summary
+	 * @param parallelity
+	 *            number of threads executing the tasks
+	 * @param listener
+	 *            notified of every task and the end of the run. May be null.
+	 */
+	public RunMetrics(final String name, final int parallelity, final RunMetricsListener listener) {
+		this.name = name;
+		this.parallelity = parallelity;
+		this.listener = listener;
+	}
+
+	/**
+	 * Wraps a task such that its timing is recorded. The queue wait is
+	 * measured from the call of this method.
+	 *
+	 * @param run
+	 *            the task
+	 * @param item
+	 *            name of the task
+	 * @return instrumented task
+	 */
+	public Runnable instrument(final Runnable run, final String item) {
+		final long submitted = System.nanoTime();
+		return new Runnable() {
+			@Override
+			public void run() {
+				final long started = System.nanoTime();
+				final long cpuStarted = cpuTime();
+				boolean failed = true;
+				try {
+					run.run();
+					failed = false;
+				} finally {
+					final long cpuFinished = cpuTime();
+					record(new TaskMetrics(item, started - submitted, System.nanoTime() - started,
+							cpuStarted < 0 ? -1 : cpuFinished - cpuStarted, failed));
+				}
+			}
+		};
+	}
+
+	/**
+	 * Marks the end of the run and notifies the listener.
+	 */
+	public void finish() {
+		synchronized (this) {
+			end = System.nanoTime();
+		}
+		if (listener != null) {
+			listener.runFinished(this);
+		}
+	}
+
+	/**
+	 * Marks the end of the run, notifies the listener and writes the metrics
+	 * to <code>file</code>, if given. Called after a failed run as well, so
+	 * failed tasks show up in the output.
+	 *
+	 * @param file
+	 *            output file, see {@link #write(File)}. May be null.
+	 * @param failure
+	 *            exception ending the run, or null. An error writing the file
+	 *            is added to it instead of being thrown.
+	 */
+	public void finish(final File file, final Throwable failure) {
+		finish();
+		if (file == null) {
+			return;
+		}
+		try {
+			write(file);
+		} catch (IOException e) {
+			if (failure == null) {
+				throw new RuntimeException(e);
+			}
+			failure.addSuppressed(e);
+		}
+	}
+
+	private void record(final TaskMetrics task) {
+		synchronized (this) {
+			tasks.add(task);
+		}
+		if (listener != null) {
+			listener.taskFinished(task);
+		}
+	}
+
+	private static long cpuTime() {
+		return THREADS.isCurrentThreadCpuTimeSupported() ? THREADS.getCurrentThreadCpuTime() : -1;
+	}
+
+	public String getName() {
+		return name;
+	}
+
+	public int getParallelity() {
+		return parallelity;
+	}
+
+	public synchronized List<TaskMetrics> getTasks() {
+		return new ArrayList<>(tasks);
+	}
+
+	/**
+	 * @return time since start of the run, up to <code>finish()</code>
+	 */
+	public synchronized long getElapsedNanos() {
+		return (end == 0 ? System.nanoTime() : end) - start;
+	}
+
+	/**
+	 * @return finished tasks per second
+	 */
+	public synchronized double getThroughput() {
+		final long elapsed = getElapsedNanos();
+		return elapsed == 0 ? 0 : tasks.size() * NANOS_PER_SECOND / elapsed;
+	}
+
+	/**
+	 * @return mean time tasks waited for a thread
+	 */
+	public synchronized double getMeanQueueWaitNanos() {
+		if (tasks.isEmpty()) {
+			return 0;
+		}
+		long sum = 0;
+		for (TaskMetrics task : tasks) {
+			sum += task.getQueueWaitNanos();
+		}
+		return (double) sum / tasks.size();
+	}
+
+	/**
+	 * @return fraction of the available thread time spent executing tasks
+	 */
+	public synchronized double getUtilization() {
+		final long elapsed = getElapsedNanos();
+		if (elapsed == 0) {
+			return 0;
+		}
+		long busy = 0;
+		for (TaskMetrics task : tasks) {
+			busy += task.getWallNanos();
+		}
+		return (double) busy / ((double) elapsed * parallelity);
+	}
+
+	/**
+	 * @param percentile
+	 *            between 0 and 100
+	 * @return wall time of a task at the given percentile (nearest rank)
+	 */
+	public synchronized long getWallNanosPercentile(final double percentile) {
+		final long[] wall = new long[tasks.size()];
+		for (int i = 0; i < wall.length; i++) {
+			wall[i] = tasks.get(i).getWallNanos();
+		}
+		return percentile(wall, percentile);
+	}
+
+	private static long percentile(final long[] values, final double percentile) {
+		if (values.length == 0) {
+			return 0;
+		}
+		final long[] sorted = values.clone();
+		Arrays.sort(sorted);
+		final int rank = (int) Math.ceil(percentile / 100.0 * sorted.length);
+		return sorted[Math.min(sorted.length - 1, Math.max(0, rank - 1))];
+	}
+
+	private static double mean(final long[] values) {
+		if (values.length == 0) {
+			return 0;
+		}
+		double sum = 0;
+		for (long value : values) {
+			sum += value;
+		}
+		return sum / values.length;
+	}
+
+	/**
+	 * Writes the metrics to a file: CSV if the file name ends with
+	 * <code>.csv</code>, otherwise JSON. Both contain the tasks and a summary.
+	 *
+	 * @param file
+	 *            output file
+	 * @throws IOException
+	 */
+	public void write(final File file) throws IOException {
+		try (final Writer writer = Files.newBufferedWriter(file.toPath(), Charset.forName("UTF-8"))) {
+			if (file.getName().toLowerCase(Locale.ROOT).endsWith(".csv")) {
+				writeCsv(writer);
+			} else {
+				writeJson(writer);
+			}
+		}
+	}
+
+	/**
+	 * Writes one line per task, followed by summary lines: <code>#mean</code>,
+	 * <code>#p50</code>, <code>#p95</code> and <code>#p99</code> of the time
+	 * columns, <code>#elapsed</code> with the wall time of the run and
+	 * <code>#failed</code> with the number of failed tasks.
+	 *
+	 * @param writer
+	 *            receives the CSV
+	 * @throws IOException
+	 */
+	public synchronized void writeCsv(final Writer writer) throws IOException {
+		writer.write("item,queueWaitMs,wallMs,cpuMs,failed\n");
+		final long[] queueWait = new long[tasks.size()];
+		final long[] wall = new long[tasks.size()];
+		final long[] cpu = new long[tasks.size()];
+		int failed = 0;
+		for (int i = 0; i < tasks.size(); i++) {
+			final TaskMetrics task = tasks.get(i);
+			queueWait[i] = task.getQueueWaitNanos();
+			wall[i] = task.getWallNanos();
+			cpu[i] = task.getCpuNanos();
+			failed += task.isFailed() ? 1 : 0;
+			writer.write(csv(task.getItem()) + "," + millis(queueWait[i]) + "," + millis(wall[i]) + ","
+					+ millis(cpu[i]) + "," + task.isFailed() + "\n");
+		}
+		writer.write("#mean," + millis(Math.round(mean(queueWait))) + "," + millis(Math.round(mean(wall))) + ","
+				+ millis(Math.round(mean(cpu))) + ",\n");
+		for (int percentile : new int[] { 50, 95, 99 }) {
+			writer.write("#p" + percentile + "," + millis(percentile(queueWait, percentile)) + ","
+					+ millis(percentile(wall, percentile)) + "," + millis(percentile(cpu, percentile)) + ",\n");
+		}
+		writer.write("#elapsed,," + millis(getElapsedNanos()) + ",,\n");
+		writer.write("#failed,,,," + failed + "\n");
+	}
+
+	public synchronized void writeJson(final Writer writer) throws IOException {
+		writer.write("{\n");
+		writer.write("  \"name\": " + json(name) + ",\n");
+		writer.write("  \"parallelity\": " + parallelity + ",\n");
+		writer.write("  \"tasks\": " + tasks.size() + ",\n");
+		writer.write("  \"elapsedMs\": " + millis(getElapsedNanos()) + ",\n");
+		writer.write("  \"itemsPerSecond\": " + format(getThroughput()) + ",\n");
+		writer.write("  \"utilization\": " + format(getUtilization()) + ",\n");
+		writer.write("  \"meanQueueWaitMs\": " + format(getMeanQueueWaitNanos() / NANOS_PER_MILLI) + ",\n");
+		writer.write("  \"wallMsP50\": " + millis(getWallNanosPercentile(50)) + ",\n");
+		writer.write("  \"wallMsP95\": " + millis(getWallNanosPercentile(95)) + ",\n");
+		writer.write("  \"wallMsP99\": " + millis(getWallNanosPercentile(99)) + ",\n");
+		writer.write("  \"items\": [");
+		for (int i = 0; i < tasks.size(); i++) {
+			final TaskMetrics task = tasks.get(i);
+			writer.write(i == 0 ? "\n" : ",\n");
+			writer.write("    {\"item\": " + json(task.getItem()) + ", \"queueWaitMs\": "
+					+ millis(task.getQueueWaitNanos()) + ", \"wallMs\": " + millis(task.getWallNanos())
+					+ ", \"cpuMs\": " + millis(task.getCpuNanos()) + ", \"failed\": " + task.isFailed() + "}");
+		}
+		writer.write("\n  ]\n}\n");
+	}
+
+	@Override
+	public synchronized String toString() {
+		return name + ": " + tasks.size() + " tasks in " + millis(getElapsedNanos()) + " ms; "
+				+ format(getThroughput()) + " items/s; wall p50/p95/p99=" + millis(getWallNanosPercentile(50))
+				+ "/" + millis(getWallNanosPercentile(95)) + "/" + millis(getWallNanosPercentile(99))
+				+ " ms; mean queue wait=" + format(getMeanQueueWaitNanos() / NANOS_PER_MILLI)
+				+ " ms; utilization=" + format(getUtilization());
+	}
+
+	private static String millis(final long nanos) {
+		return nanos < 0 ? "-1" : format(nanos / NANOS_PER_MILLI);
+	}
+
+	private static String format(final double value) {
+		return String.format(Locale.ROOT, "%.3f", Double.valueOf(value));
+	}
+
+	private static String csv(final String value) {
+		if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0) {
+			return value;
+		}
+		return "\"" + value.replace("\"", "\"\"") + "\"";
+	}
+
+	private static String json(final String value) {
+		final StringBuilder builder = new StringBuilder(value.length() + 2);
+		builder.append('"');
+		for (int i = 0; i < value.length(); i++) {
+			final char c = value.charAt(i);
+			if (c == '"' || c == '\\') {
+				builder.append('\\').append(c);
+			} else if (c < 0x20) {
+				builder.append(String.format("\\u%04x", Integer.valueOf(c)));
+			} else {
+				builder.append(c);
+			}
+		}
+		return builder.append('"').toString();
+	}
+}
@@ -0,0 +1,29 @@
+/*
+* Copyright Siemens AG, 2026
+*
+* Licensed under the Apache License, Version 2.0 the "License";
+* you may not use this file except in compliance with the License.
+* You may obtain a copy of the License at
+*
+* http://www.apache.org/licenses/LICENSE-2.0
+*
+* Unless required by applicable law or agreed to in writing, software
+* distributed under the License is distributed on an "AS IS" BASIS,
+* WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+* See the License for the specific language governing permissions and
+* limitations under the License.
+*/
+
+package com.siemens.oss.omniproperties.run;
+
+/**
+ * Receiver of the {@link RunMetrics} of {@link ParallelRunnable} and
+ * {@link SequentialRunnable}. <code>taskFinished</code> is called from the
+ * threads executing the tasks.
+ */
+public interface RunMetricsListener {
+
+	void taskFinished(TaskMetrics task);
+
+	void runFinished(RunMetrics metrics);
+}
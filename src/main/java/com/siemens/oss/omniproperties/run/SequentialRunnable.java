@@ -16,6 +16,11 @@
 
 package com.siemens.oss.omniproperties.run;
 
+import java.io.File;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
 /**
  * Runs an array of {@link Runnable}s sequentially
  * 
@@ -25,16 +30,39 @@ package com.siemens.oss.omniproperties.run;
 
 public final class SequentialRunnable implements Runnable {
 
+	private final static Logger LOG = LoggerFactory.getLogger(SequentialRunnable.class);
+
 	private Runnable[] runnables;
 
+	/**
+	 * optional file receiving the {@link RunMetrics} at the end of the run.
+	 * CSV if the name ends with .csv, JSON otherwise.
+	 */
+	private File metrics;
+
+	/**
+	 * optional listener receiving the {@link RunMetrics}
+	 */
+	private RunMetricsListener metricsListener;
+
 	public SequentialRunnable(Runnable[] runnables) {
 		this.runnables = runnables;
 	}
 
 	@Override
 	public void run() {
-		for (Runnable run : runnables) {
-			run.run();
+		final RunMetrics runMetrics = new RunMetrics(SequentialRunnable.class.getSimpleName(), 1, metricsListener);
+		Throwable failure = null;
+		try {
+			for (int i = 0; i < runnables.length; i++) {
+				runMetrics.instrument(runnables[i], Integer.toString(i)).run();
+			}
+		} catch (Throwable e) {
+			failure = e;
+			throw e;
+		} finally {
+			runMetrics.finish(metrics, failure);
+			LOG.debug(runMetrics.toString());
 		}
 	}
 
@@ -0,0 +1,89 @@
+/*
+* Copyright Siemens AG, 2026
+*
+* Licensed under the Apache License, Version 2.0 the "License";
+* you may not use this file except in compliance with the License.
+* You may obtain a copy of the License at
+*
+* http://www.apache.org/licenses/LICENSE-2.0
+*
+* Unless required by applicable law or agreed to in writing, software
+* distributed under the License is distributed on an "AS IS" BASIS,
+* WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+* See the License for the specific language governing permissions and
+* limitations under the License.
+*/
+
+package com.siemens.oss.omniproperties.run;
+
+import java.io.File;
+
+/**
+ * One of <code>count</code> deterministic partitions of the items of a
+ * {@link ParallelRunnable}. Items are assigned round robin by their position,
+ * so every process running the same config with the same shard count gets a
+ * disjoint part of the items. Written as <code>index/count</code>, e.g.
+ * <code>0/4</code>.
+ */
+public final class Shard {
+
+	private final int index;
+	private final int count;
+
+	public Shard(final int index, final int count) {
+		if (count < 1 || index < 0 || index >= count) {
+			throw new IllegalArgumentException("invalid shard " + index + "/" + count
+					+ "; expected 0 <= index < count");
+		}
+		this.index = index;
+		this.count = count;
+	}
+
+	/**
+	 * @param spec
+	 *            shard given as <code>index/count</code>
+	 * @return the shard
+	 */
+	public static Shard parse(final String spec) {
+		final String[] parts = spec.split("/");
+		if (parts.length != 2) {
+			throw new IllegalArgumentException("shard must be given as index/count, not '" + spec + "'");
+		}
+		try {
+			return new Shard(Integer.parseInt(parts[0].trim()), Integer.parseInt(parts[1].trim()));
+		} catch (NumberFormatException e) {
+			throw new IllegalArgumentException("shard must be given as index/count, not '" + spec + "'", e);
+		}
+	}
+
+	public int getIndex() {
+		return index;
+	}
+
+	public int getCount() {
+		return count;
+	}
+
+	/**
+	 * @param position
+	 *            position of an item
+	 * @return true if the item belongs to this shard
+	 */
+	public boolean contains(final int position) {
+		return position % count == index;
+	}
+
+	/**
+	 * @param journal
+	 *            journal of the whole sweep
+	 * @return journal written by this shard
+	 */
+	public File journalOf(final File journal) {
+		return new File(journal.getPath() + ".shard-" + index + "-of-" + count);
+	}
+
+	@Override
+	public String toString() {
+		return index + "/" + count;
+	}
+}
@@ -0,0 +1,130 @@
+/*
+* Copyright Siemens AG, 2026
+*
+* Licensed under the Apache License, Version 2.0 the "License";
+* you may not use this file except in compliance with the License.
+* You may obtain a copy of the License at
+*
+* http://www.apache.org/licenses/LICENSE-2.0
+*
+* Unless required by applicable law or agreed to in writing, software
+* distributed under the License is distributed on an "AS IS" BASIS,
+* WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+* See the License for the specific language governing permissions and
+* limitations under the License.
+*/
+
+package com.siemens.oss.omniproperties.run;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Runs a config with {@link GenericMain} in several local JVMs, one per
+ * {@link Shard}. When all shards terminated, the shard journals are merged
+ * into the journal of the sweep (if the <code>run</code> object is a
+ * {@link ParallelRunnable} with journal).
+ */
+public final class ShardCoordinator implements Runnable {
+
+	private static final Logger LOG = LoggerFactory.getLogger(ShardCoordinator.class);
+
+	private final File config;
+	private final List<String> args;
+	private final int shards;
+	private final File journal;
+
+	/**
+	 * @param config
+	 *            oprops file to run
+	 * @param args
+	 *            key-value pairs as given to {@link GenericMain}
+	 * @param shards
+	 *            number of shards/JVMs
+	 * @param journal
+	 *            journal of the sweep. May be null.
+	 */
+	public ShardCoordinator(final File config, final List<String> args, final int shards, final File journal) {
+		if (shards < 1) {
+			throw new IllegalArgumentException("number of shards must be at least 1");
+		}
+		this.config = config;
+		this.args = args;
+		this.shards = shards;
+		this.journal = journal;
+	}
+
+	@Override
+	public void run() {
+		final List<Process> processes = new ArrayList<>();
+		int failed = 0;
+		try {
+			for (int i = 0; i < shards; i++) {
+				final Shard shard = new Shard(i, shards);
+				LOG.info("Starting shard " + shard);
+				processes.add(new ProcessBuilder(command(shard)).inheritIO().start());
+			}
+			for (int i = 0; i < processes.size(); i++) {
+				final int exitCode = processes.get(i).waitFor();
+				if (exitCode == 0) {
+					LOG.info("Shard " + i + "/" + shards + " finished.");
+				} else {
+					LOG.error("Shard " + i + "/" + shards + " failed with exit code " + exitCode);
+					failed++;
+				}
+			}
+		} catch (IOException e) {
+			throw new RuntimeException(e);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new RuntimeException(e);
+		} finally {
+			for (Process process : processes) {
+				process.destroy();
+			}
+		}
+
+		mergeJournals();
+		if (failed > 0) {
+			throw new RuntimeException(failed + " of " + shards + " shards failed");
+		}
+	}
+
+	private void mergeJournals() {
+		if (journal == null) {
+			return;
+		}
+		final File[] shardJournals = new File[shards];
+		for (int i = 0; i < shards; i++) {
+			shardJournals[i] = new Shard(i, shards).journalOf(journal);
+		}
+		try {
+			SweepJournal.merge(journal, shardJournals);
+		} catch (IOException e) {
+			throw new RuntimeException(e);
+		}
+		LOG.info("Merged shard journals into " + journal);
+	}
+
+	private List<String> command(final Shard shard) {
+		final List<String> command = new ArrayList<>();
+		command.add(new File(new File(System.getProperty("java.home"), "bin"), "java").getPath());
+		command.add("-cp");
+		command.add(System.getProperty("java.class.path"));
+		command.add(GenericMain.class.getName());
+		command.add("-config");
+		command.add(config.getPath());
+		command.add("-shard");
+		command.add(shard.toString());
+		if (!args.isEmpty()) {
+			command.add("-args");
+			command.addAll(args);
+		}
+		return command;
+	}
+}
@@ -0,0 +1,228 @@
+/*
+* Copyright Siemens AG, 2026
+*
+* Licensed under the Apache License, Version 2.0 the "License";
+* you may not use this file except in compliance with the License.
+* You may obtain a copy of the License at
+*
+* http://www.apache.org/licenses/LICENSE-2.0
+*
+* Unless required by applicable law or agreed to in writing, software
+* distributed under the License is distributed on an "AS IS" BASIS,
+* WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+* See the License for the specific language governing permissions and
+* limitations under the License.
+*/
+
+package com.siemens.oss.omniproperties.run;
+
+import java.io.Closeable;
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.nio.file.Files;
+import java.nio.file.StandardOpenOption;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+
+import org.apache.commons.lang.StringEscapeUtils;
+
+/**
+ * Append-only journal of completed sweep items. Every completed item is
+ * written as one line. The journal is forced to disk after a configurable
+ * number of records and on <code>close()</code>. A journal which was cut off
+ * in the middle of a record (e.g. by a crash) is truncated to the last
+ * complete record when opened.
+ */
+public final class SweepJournal implements Closeable {
+
+	public static final int DEFAULT_SYNC_INTERVAL = 64;
+
+	private static final Charset UTF8 = Charset.forName("UTF-8");
+	private static final byte NEWLINE = '\n';
+
+	private final File file;
+	private final FileChannel channel;
+	private final int syncInterval;
+	private final Set<String> completed;
+	private int unsynced;
+
+	private SweepJournal(final File file, final int syncInterval) throws IOException {
+		if (syncInterval < 1) {
+			throw new IllegalArgumentException("syncInterval must be at least 1");
+		}
+		this.file = file;
+		this.syncInterval = syncInterval;
+		this.completed = Collections.unmodifiableSet(readCompleted(file));
+		this.channel = FileChannel.open(file.toPath(), StandardOpenOption.CREATE, StandardOpenOption.READ,
+				StandardOpenOption.WRITE);
+		truncateIncompleteRecord();
+		channel.position(channel.size());
+	}
+
+	/**
+	 * Opens a journal for appending. The file is created if it does not exist.
+	 *
+	 * @param file
+	 *            journal file
+	 * @param syncInterval
+	 *            number of records after which the journal is forced to disk
+	 * @return the opened journal
+	 * @throws IOException
+	 */
+	public static SweepJournal open(final File file, final int syncInterval) throws IOException {
+		return new SweepJournal(file, syncInterval);
+	}
+
+	/**
+	 * Reads the items recorded in a journal without opening it for writing.
+	 *
+	 * @param file
+	 *            journal file
+	 * @return keys of the recorded items; empty if the file does not exist
+	 * @throws IOException
+	 */
+	public static Set<String> readCompleted(final File file) throws IOException {
+		final Set<String> keys = new HashSet<>();
+		if (!file.exists()) {
+			return keys;
+		}
+		final byte[] bytes = Files.readAllBytes(file.toPath());
+		int start = 0;
+		for (int i = 0; i < bytes.length; i++) {
+			if (bytes[i] == NEWLINE) {
+				keys.add(StringEscapeUtils.unescapeJava(new String(bytes, start, i - start, UTF8)));
+				start = i + 1;
+			}
+		}
+		return keys;
+	}
+
+	/**
+	 * Appends the items recorded in other journals (e.g. of the shards of a
+	 * sweep) to a journal and deletes the other journals afterwards.
+	 *
+	 * @param target
+	 *            journal to merge into
+	 * @param sources
+	 *            journals to merge; missing files are ignored
+	 * @throws IOException
+	 */
+	public static void merge(final File target, final File... sources) throws IOException {
+		try (final SweepJournal journal = open(target, Integer.MAX_VALUE)) {
+			final Set<String> merged = new HashSet<>(journal.getCompleted());
+			for (File source : sources) {
+				for (String key : readCompleted(source)) {
+					if (merged.add(key)) {
+						journal.record(key);
+					}
+				}
+			}
+		}
+		for (File source : sources) {
+			Files.deleteIfExists(source.toPath());
+		}
+	}
+
+	/**
+	 * @param item
+	 *            sweep item
+	 * @return the key under which the item is recorded in the journal
+	 */
+	public static String keyOf(final Object item) {
+		return String.valueOf(item);
+	}
+
+	/**
+	 * @return keys of the items which were recorded when the journal was opened
+	 */
+	public Set<String> getCompleted() {
+		return completed;
+	}
+
+	public boolean isCompleted(final Object item) {
+		return completed.contains(keyOf(item));
+	}
+
+	/**
+	 * Appends an item to the journal.
+	 *
+	 * @param item
+	 *            completed sweep item
+	 * @throws IOException
+	 */
+	public synchronized void record(final Object item) throws IOException {
+		final ByteBuffer buffer = ByteBuffer.wrap((StringEscapeUtils.escapeJava(keyOf(item)) + "\n").getBytes(UTF8));
+		while (buffer.hasRemaining()) {
+			channel.write(buffer);
+		}
+		unsynced++;
+		if (unsynced >= syncInterval) {
+			sync();
+		}
+	}
+
+	/**
+	 * Wraps a {@link Runnable} such that the item is recorded once the
+	 * {@link Runnable} completed without exception.
+	 *
+	 * @param run
+	 *            the run for the item
+	 * @param item
+	 *            the sweep item
+	 * @return wrapped run
+	 */
+	public Runnable recording(final Runnable run, final Object item) {
+		return new Runnable() {
+			@Override
+			public void run() {
+				run.run();
+				try {
+					record(item);
+				} catch (IOException e) {
+					throw new RuntimeException("Error writing journal '" + file + "'", e);
+				}
+			}
+		};
+	}
+
+	/**
+	 * Forces all records to disk.
+	 *
+	 * @throws IOException
+	 */
+	public synchronized void sync() throws IOException {
+		channel.force(false);
+		unsynced = 0;
+	}
+
+	@Override
+	public synchronized void close() throws IOException {
+		if (channel.isOpen()) {
+			try {
+				sync();
+			} finally {
+				channel.close();
+			}
+		}
+	}
+
+	private void truncateIncompleteRecord() throws IOException {
+		long size = channel.size();
+		final ByteBuffer buffer = ByteBuffer.allocate(1);
+		while (size > 0) {
+			buffer.clear();
+			channel.read(buffer, size - 1);
+			if (buffer.get(0) == NEWLINE) {
+				break;
+			}
+			size--;
+		}
+		if (size < channel.size()) {
+			channel.truncate(size);
+		}
+	}
+}
@@ -0,0 +1,71 @@
+/*
+* Copyright Siemens AG, 2026
+*
+* Licensed under the Apache License, Version 2.0 the "License";
+* you may not use this file except in compliance with the License.
+* You may obtain a copy of the License at
+*
+* http://www.apache.org/licenses/LICENSE-2.0
+*
+* Unless required by applicable law or agreed to in writing, software
+* distributed under the License is distributed on an "AS IS" BASIS,
+* WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+* See the License for the specific language governing permissions and
+* limitations under the License.
+*/
+
+package com.siemens.oss.omniproperties.run;
+
+/**
+ * Timing of a single task run by {@link ParallelRunnable} or
+ * {@link SequentialRunnable}. All times are given in nanoseconds.
+ */
+public final class TaskMetrics {
+
+	private final String item;
+	private final long queueWaitNanos;
+	private final long wallNanos;
+	private final long cpuNanos;
+	private final boolean failed;
+
+	public TaskMetrics(final String item, final long queueWaitNanos, final long wallNanos, final long cpuNanos,
+			final boolean failed) {
+		this.item = item;
+		this.queueWaitNanos = queueWaitNanos;
+		this.wallNanos = wallNanos;
+		this.cpuNanos = cpuNanos;
+		this.failed = failed;
+	}
+
+	public String getItem() {
+		return item;
+	}
+
+	/**
+	 * @return time between submission and start of the task
+	 */
+	public long getQueueWaitNanos() {
+		return queueWaitNanos;
+	}
+
+	public long getWallNanos() {
+		return wallNanos;
+	}
+
+	/**
+	 * @return CPU time of the executing thread; -1 if not supported by the JVM
+	 */
+	public long getCpuNanos() {
+		return cpuNanos;
+	}
+
+	public boolean isFailed() {
+		return failed;
+	}
+
+	@Override
+	public String toString() {
+		return item + ": wait=" + queueWaitNanos + "ns, wall=" + wallNanos + "ns, cpu=" + cpuNanos + "ns"
+				+ (failed ? ", failed" : "");
+	}
+}
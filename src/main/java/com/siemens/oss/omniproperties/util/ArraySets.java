@@ -0,0 +1,577 @@
+/*
+* Copyright Siemens AG, 2026
+*
+* Licensed under the Apache License, Version 2.0 the "License";
+* you may not use this file except in compliance with the License.
+* You may obtain a copy of the License at
+*
+* http://www.apache.org/licenses/LICENSE-2.0
+*
+* Unless required by applicable law or agreed to in writing, software
+* distributed under the License is distributed on an "AS IS" BASIS,
+* WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+* See the License for the specific language governing permissions and
+* limitations under the License.
+*/
+
+package com.siemens.oss.omniproperties.util;
+
+import java.lang.reflect.Array;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Set operations on arrays in linear time. Primitive elements are not boxed:
+ * every element is mapped to a <code>long</code> key (floating point numbers
+ * by their bits, which matches <code>equals</code> of their wrappers) and
+ * looked up in an open addressing hash set. Elements of object arrays are
+ * mapped to dense ids first.
+ */
+public final class ArraySets {
+
+	private ArraySets() {
+		// no instances
+	}
+
+	/**
+	 * @param arrays
+	 *            at least one array, all of the same type
+	 * @return array of the type of the first array with all its elements
+	 *         which are contained in every other array, in the order of the
+	 *         first array. Duplicates in the first array are kept.
+	 */
+	public static Object intersection(final Object[] arrays) {
+		final long[][] keys = keysOf(arrays);
+		LongHashSet retained = null;
+		for (int i = 1; i < keys.length; i++) {
+			final LongHashSet set = new LongHashSet(retained == null ? keys[i].length : retained.size());
+			for (long key : keys[i]) {
+				if (retained == null || retained.contains(key)) {
+					set.add(key);
+				}
+			}
+			retained = set;
+		}
+		final int[] indexes = new int[keys[0].length];
+		int count = 0;
+		for (int i = 0; i < keys[0].length; i++) {
+			if (retained == null || retained.contains(keys[0][i])) {
+				indexes[count++] = i;
+			}
+		}
+		return select(arrays[0], indexes, count);
+	}
+
+	/**
+	 * @param arrays
+	 *            at least one array, all of the same type
+	 * @return array of the type of the first array with all distinct
+	 *         elements of all arrays, in the order of their first occurrence
+	 */
+	public static Object union(final Object[] arrays) {
+		final Object all = concat(arrays);
+		final long[] keys = keysOf(new Object[] { all })[0];
+		final LongHashSet seen = new LongHashSet(keys.length);
+		final int[] indexes = new int[keys.length];
+		int count = 0;
+		for (int i = 0; i < keys.length; i++) {
+			if (seen.add(keys[i])) {
+				indexes[count++] = i;
+			}
+		}
+		return count == keys.length ? all : select(all, indexes, count);
+	}
+
+	/**
+	 * @param arrays
+	 *            at least one array, all of the same type
+	 * @return array of the type of the first array with all its elements
+	 *         which are contained in no other array, in the order of the
+	 *         first array. Duplicates in the first array are kept.
+	 */
+	public static Object difference(final Object[] arrays) {
+		final long[][] keys = keysOf(arrays);
+		int length = 0;
+		for (int i = 1; i < keys.length; i++) {
+			length += keys[i].length;
+		}
+		final LongHashSet removed = new LongHashSet(length);
+		for (int i = 1; i < keys.length; i++) {
+			for (long key : keys[i]) {
+				removed.add(key);
+			}
+		}
+		final int[] indexes = new int[keys[0].length];
+		int count = 0;
+		for (int i = 0; i < keys[0].length; i++) {
+			if (!removed.contains(keys[0][i])) {
+				indexes[count++] = i;
+			}
+		}
+		return select(arrays[0], indexes, count);
+	}
+
+	/**
+	 * @param arrays
+	 *            at least one array, all of the same type
+	 * @return array of the type of the first array with all distinct
+	 *         elements contained in an odd number of the arrays (for two
+	 *         arrays: in exactly one of them), in the order of their first
+	 *         occurrence
+	 */
+	public static Object symmetricDifference(final Object[] arrays) {
+		final Object all = concat(arrays);
+		final long[] keys = keysOf(new Object[] { all })[0];
+		final LongIds ids = new LongIds(keys.length);
+		// per id: index of the first occurrence, last array containing it
+		// (+1) and whether the number of arrays containing it is odd
+		final int[] first = new int[keys.length];
+		final int[] lastArray = new int[keys.length];
+		final boolean[] odd = new boolean[keys.length];
+		int offset = 0;
+		for (int i = 0; i < arrays.length; i++) {
+			final int end = offset + Array.getLength(arrays[i]);
+			for (int j = offset; j < end; j++) {
+				final int id = ids.idOf(keys[j]);
+				if (lastArray[id] == 0) {
+					first[id] = j;
+				}
+				if (lastArray[id] != i + 1) {
+					lastArray[id] = i + 1;
+					odd[id] = !odd[id];
+				}
+			}
+			offset = end;
+		}
+		final int[] indexes = new int[ids.size()];
+		int count = 0;
+		for (int id = 0; id < ids.size(); id++) {
+			if (odd[id]) {
+				indexes[count++] = first[id];
+			}
+		}
+		return select(all, indexes, count);
+	}
+
+	/**
+	 * @param array
+	 *            array of primitives or of {@link Comparable}s
+	 * @return new sorted array of the same type without duplicates
+	 */
+	public static Object sortedSet(final Object array) {
+		final Object sorted = concat(new Object[] { array });
+		if (sorted instanceof Object[]) {
+			try {
+				Arrays.sort((Object[]) sorted);
+			} catch (ClassCastException e) {
+				throw new IllegalArgumentException("Elements must be comparable to be sorted.", e);
+			}
+		} else if (sorted instanceof int[]) {
+			Arrays.sort((int[]) sorted);
+		} else if (sorted instanceof long[]) {
+			Arrays.sort((long[]) sorted);
+		} else if (sorted instanceof double[]) {
+			Arrays.sort((double[]) sorted);
+		} else if (sorted instanceof float[]) {
+			Arrays.sort((float[]) sorted);
+		} else if (sorted instanceof short[]) {
+			Arrays.sort((short[]) sorted);
+		} else if (sorted instanceof byte[]) {
+			Arrays.sort((byte[]) sorted);
+		} else if (sorted instanceof char[]) {
+			Arrays.sort((char[]) sorted);
+		} else {
+			final boolean[] values = (boolean[]) sorted;
+			int falseCount = 0;
+			for (boolean value : values) {
+				falseCount += value ? 0 : 1;
+			}
+			Arrays.fill(values, 0, falseCount, false);
+			Arrays.fill(values, falseCount, values.length, true);
+		}
+		final long[] keys = keysOf(new Object[] { sorted })[0];
+		final int[] indexes = new int[keys.length];
+		int count = 0;
+		for (int i = 0; i < keys.length; i++) {
+			if (i == 0 || keys[i] != keys[i - 1]) {
+				indexes[count++] = i;
+			}
+		}
+		return count == keys.length ? sorted : select(sorted, indexes, count);
+	}
+
+	/**
+	 * @param array
+	 *            array of non-negative <code>int</code>s, <code>short</code>s,
+	 *            <code>byte</code>s or <code>char</code>s
+	 * @return bit set with the elements of the array set
+	 */
+	public static BitSet bitSet(final Object array) {
+		if (!(array instanceof int[] || array instanceof short[] || array instanceof byte[] || array instanceof char[])) {
+			throw new IllegalArgumentException("Only arrays of int, short, byte or char can be converted to a BitSet.");
+		}
+		final long[] keys = keysOf(new Object[] { array })[0];
+		long max = -1;
+		for (long key : keys) {
+			if (key < 0) {
+				throw new IllegalArgumentException("Negative element " + key + " cannot be put into a BitSet.");
+			}
+			max = Math.max(max, key);
+		}
+		final BitSet bitSet = new BitSet((int) Math.min(max + 1, Integer.MAX_VALUE));
+		for (long key : keys) {
+			bitSet.set((int) key);
+		}
+		return bitSet;
+	}
+
+	/**
+	 * Concatenates arrays by bulk copies.
+	 * 
+	 * @param arrays
+	 *            at least one array. Primitive arrays must all have the same
+	 *            type, elements of object arrays must be assignable to the
+	 *            component type of the first array.
+	 * @return array of the type of the first array with the elements of all
+	 *         arrays
+	 */
+	public static Object concat(final Object[] arrays) {
+		if (arrays.length == 0) {
+			throw new IllegalArgumentException("No arrays given.");
+		}
+		final Class<?> type = componentTypeOf(arrays, 0);
+		int length = 0;
+		for (int i = 0; i < arrays.length; i++) {
+			checkType(arrays, i, type);
+			length += Array.getLength(arrays[i]);
+		}
+		final Object result = Array.newInstance(type, length);
+		int offset = 0;
+		for (int i = 0; i < arrays.length; i++) {
+			final int arrayLength = Array.getLength(arrays[i]);
+			try {
+				System.arraycopy(arrays[i], 0, result, offset, arrayLength);
+			} catch (ArrayStoreException e) {
+				throw new IllegalArgumentException("Array " + i + " contains elements which are no "
+						+ type.getName() + ".", e);
+			}
+			offset += arrayLength;
+		}
+		return result;
+	}
+
+	static long[][] keysOf(final Object[] arrays) {
+		if (arrays.length == 0) {
+			throw new IllegalArgumentException("No arrays given.");
+		}
+		final Class<?> type = componentTypeOf(arrays, 0);
+		final Map<Object, Long> ids = type.isPrimitive() ? null : new HashMap<Object, Long>();
+		final long[][] keys = new long[arrays.length][];
+		for (int i = 0; i < arrays.length; i++) {
+			checkType(arrays, i, type);
+			keys[i] = ids == null ? keysOf(arrays[i]) : keysOf((Object[]) arrays[i], ids);
+		}
+		return keys;
+	}
+
+	private static Class<?> componentTypeOf(final Object[] arrays, final int index) {
+		if (arrays[index] == null || !arrays[index].getClass().isArray()) {
+			throw new IllegalArgumentException("Object " + index + " is not an array.");
+		}
+		return arrays[index].getClass().getComponentType();
+	}
+
+	private static void checkType(final Object[] arrays, final int index, final Class<?> type) {
+		final Class<?> otherType = componentTypeOf(arrays, index);
+		if (type.isPrimitive() ? otherType != type : otherType.isPrimitive()) {
+			throw new IllegalArgumentException("Array " + index + " of type " + otherType.getName()
+					+ "[] does not match type " + type.getName() + "[].");
+		}
+	}
+
+	private static long[] keysOf(final Object[] array, final Map<Object, Long> ids) {
+		final long[] keys = new long[array.length];
+		for (int i = 0; i < array.length; i++) {
+			Long id = ids.get(array[i]);
+			if (id == null) {
+				id = Long.valueOf(ids.size());
+				ids.put(array[i], id);
+			}
+			keys[i] = id.longValue();
+		}
+		return keys;
+	}
+
+	private static long[] keysOf(final Object array) {
+		if (array instanceof int[]) {
+			final int[] values = (int[]) array;
+			final long[] keys = new long[values.length];
+			for (int i = 0; i < values.length; i++) {
+				keys[i] = values[i];
+			}
+			return keys;
+		}
+		if (array instanceof long[]) {
+			return ((long[]) array).clone();
+		}
+		if (array instanceof double[]) {
+			final double[] values = (double[]) array;
+			final long[] keys = new long[values.length];
+			for (int i = 0; i < values.length; i++) {
+				keys[i] = Double.doubleToLongBits(values[i]);
+			}
+			return keys;
+		}
+		if (array instanceof float[]) {
+			final float[] values = (float[]) array;
+			final long[] keys = new long[values.length];
+			for (int i = 0; i < values.length; i++) {
+				keys[i] = Float.floatToIntBits(values[i]);
+			}
+			return keys;
+		}
+		if (array instanceof short[]) {
+			final short[] values = (short[]) array;
+			final long[] keys = new long[values.length];
+			for (int i = 0; i < values.length; i++) {
+				keys[i] = values[i];
+			}
+			return keys;
+		}
+		if (array instanceof byte[]) {
+			final byte[] values = (byte[]) array;
+			final long[] keys = new long[values.length];
+			for (int i = 0; i < values.length; i++) {
+				keys[i] = values[i];
+			}
+			return keys;
+		}
+		if (array instanceof char[]) {
+			final char[] values = (char[]) array;
+			final long[] keys = new long[values.length];
+			for (int i = 0; i < values.length; i++) {
+				keys[i] = values[i];
+			}
+			return keys;
+		}
+		final boolean[] values = (boolean[]) array;
+		final long[] keys = new long[values.length];
+		for (int i = 0; i < values.length; i++) {
+			keys[i] = values[i] ? 1 : 0;
+		}
+		return keys;
+	}
+
+	/**
+	 * @return new array of the type of <code>array</code> holding the
+	 *         elements at the first <code>count</code> indexes
+	 */
+	static Object select(final Object array, final int[] indexes, final int count) {
+		final Object result = Array.newInstance(array.getClass().getComponentType(), count);
+		if (array instanceof Object[]) {
+			final Object[] source = (Object[]) array;
+			final Object[] target = (Object[]) result;
+			for (int i = 0; i < count; i++) {
+				target[i] = source[indexes[i]];
+			}
+		} else if (array instanceof int[]) {
+			final int[] source = (int[]) array;
+			final int[] target = (int[]) result;
+			for (int i = 0; i < count; i++) {
+				target[i] = source[indexes[i]];
+			}
+		} else if (array instanceof long[]) {
+			final long[] source = (long[]) array;
+			final long[] target = (long[]) result;
+			for (int i = 0; i < count; i++) {
+				target[i] = source[indexes[i]];
+			}
+		} else if (array instanceof double[]) {
+			final double[] source = (double[]) array;
+			final double[] target = (double[]) result;
+			for (int i = 0; i < count; i++) {
+				target[i] = source[indexes[i]];
+			}
+		} else if (array instanceof float[]) {
+			final float[] source = (float[]) array;
+			final float[] target = (float[]) result;
+			for (int i = 0; i < count; i++) {
+				target[i] = source[indexes[i]];
+			}
+		} else if (array instanceof short[]) {
+			final short[] source = (short[]) array;
+			final short[] target = (short[]) result;
+			for (int i = 0; i < count; i++) {
+				target[i] = source[indexes[i]];
+			}
+		} else if (array instanceof byte[]) {
+			final byte[] source = (byte[]) array;
+			final byte[] target = (byte[]) result;
+			for (int i = 0; i < count; i++) {
+				target[i] = source[indexes[i]];
+			}
+		} else if (array instanceof char[]) {
+			final char[] source = (char[]) array;
+			final char[] target = (char[]) result;
+			for (int i = 0; i < count; i++) {
+				target[i] = source[indexes[i]];
+			}
+		} else {
+			final boolean[] source = (boolean[]) array;
+			final boolean[] target = (boolean[]) result;
+			for (int i = 0; i < count; i++) {
+				target[i] = source[indexes[i]];
+			}
+		}
+		return result;
+	}
+
+	/**
+	 * Open addressing hash set of <code>long</code> keys with linear probing.
+	 */
+	static final class LongHashSet {
+		private static final long EMPTY = 0L;
+
+		private long[] table;
+		private int mask;
+		private int size;
+		private boolean containsEmpty;
+
+		LongHashSet(final int expectedSize) {
+			allocate(Math.max(4, Integer.highestOneBit(Math.max(1, expectedSize) * 2 - 1) << 1));
+		}
+
+		private void allocate(final int capacity) {
+			table = new long[capacity];
+			mask = capacity - 1;
+		}
+
+		static int hash(final long key) {
+			final long mixed = key * 0x9E3779B97F4A7C15L;
+			return (int) (mixed ^ (mixed >>> 32));
+		}
+
+		boolean contains(final long key) {
+			if (key == EMPTY) {
+				return containsEmpty;
+			}
+			for (int slot = hash(key) & mask;; slot = (slot + 1) & mask) {
+				final long current = table[slot];
+				if (current == key) {
+					return true;
+				}
+				if (current == EMPTY) {
+					return false;
+				}
+			}
+		}
+
+		/**
+		 * @return <code>true</code> if the key was not yet contained
+		 */
+		boolean add(final long key) {
+			if (key == EMPTY) {
+				final boolean added = !containsEmpty;
+				containsEmpty = true;
+				size += added ? 1 : 0;
+				return added;
+			}
+			if (insert(key)) {
+				size++;
+				if (size * 2 > table.length) {
+					final long[] old = table;
+					allocate(old.length * 2);
+					for (long current : old) {
+						if (current != EMPTY) {
+							insert(current);
+						}
+					}
+				}
+				return true;
+			}
+			return false;
+		}
+
+		private boolean insert(final long key) {
+			for (int slot = hash(key) & mask;; slot = (slot + 1) & mask) {
+				final long current = table[slot];
+				if (current == key) {
+					return false;
+				}
+				if (current == EMPTY) {
+					table[slot] = key;
+					return true;
+				}
+			}
+		}
+
+		int size() {
+			return size;
+		}
+	}
+
+	/**
+	 * Assigns the ids 0, 1, 2, ... to distinct <code>long</code> keys in the
+	 * order of their first occurrence. Open addressing with linear probing.
+	 */
+	static final class LongIds {
+		private long[] keys;
+		/**
+		 * id + 1, 0 for an empty slot
+		 */
+		private int[] ids;
+		private int mask;
+		private int size;
+
+		LongIds(final int expectedSize) {
+			allocate(Math.max(4, Integer.highestOneBit(Math.max(1, expectedSize) * 2 - 1) << 1));
+		}
+
+		private void allocate(final int capacity) {
+			keys = new long[capacity];
+			ids = new int[capacity];
+			mask = capacity - 1;
+		}
+
+		/**
+		 * @return the id of the key, a new one if the key is new
+		 */
+		int idOf(final long key) {
+			for (int slot = LongHashSet.hash(key) & mask;; slot = (slot + 1) & mask) {
+				if (ids[slot] == 0) {
+					keys[slot] = key;
+					ids[slot] = ++size;
+					if (size * 2 > keys.length) {
+						grow();
+					}
+					return size - 1;
+				}
+				if (keys[slot] == key) {
+					return ids[slot] - 1;
+				}
+			}
+		}
+
+		private void grow() {
+			final long[] oldKeys = keys;
+			final int[] oldIds = ids;
+			allocate(oldKeys.length * 2);
+			for (int i = 0; i < oldKeys.length; i++) {
+				if (oldIds[i] != 0) {
+					int slot = LongHashSet.hash(oldKeys[i]) & mask;
+					while (ids[slot] != 0) {
+						slot = (slot + 1) & mask;
+					}
+					keys[slot] = oldKeys[i];
+					ids[slot] = oldIds[i];
+				}
+			}
+		}
+
+		int size() {
+			return size;
+		}
+	}
+}
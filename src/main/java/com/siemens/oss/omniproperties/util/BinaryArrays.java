@@ -0,0 +1,231 @@
+/*
+* Copyright Siemens AG, 2026
+*
+* Licensed under the Apache License, Version 2.0 the "License";
+* you may not use this file except in compliance with the License.
+* You may obtain a copy of the License at
+*
+* http://www.apache.org/licenses/LICENSE-2.0
+*
+* Unless required by applicable law or agreed to in writing, software
+* distributed under the License is distributed on an "AS IS" BASIS,
+* WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+* See the License for the specific language governing permissions and
+* limitations under the License.
+*/
+
+package com.siemens.oss.omniproperties.util;
+
+import java.io.EOFException;
+import java.io.File;
+import java.io.IOException;
+import java.lang.reflect.Array;
+import java.nio.Buffer;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileChannel.MapMode;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Reads primitive arrays from raw binary files, without any header, by bulk
+ * copies from a direct buffer, or maps such files into memory.
+ */
+public final class BinaryArrays {
+
+	private static final int CHUNK_SIZE = 1 << 20;
+
+	private BinaryArrays() {
+		// no instances
+	}
+
+	/**
+	 * @param name
+	 *            <code>byte</code>, <code>short</code>, <code>int</code>,
+	 *            <code>long</code>, <code>float</code> or <code>double</code>
+	 * @return the primitive type
+	 */
+	public static Class<?> typeOf(final String name) {
+		switch (name) {
+		case "byte":
+			return byte.class;
+		case "short":
+			return short.class;
+		case "int":
+			return int.class;
+		case "long":
+			return long.class;
+		case "float":
+			return float.class;
+		case "double":
+			return double.class;
+		default:
+			throw new IllegalArgumentException("Unsupported element type '" + name + "'.");
+		}
+	}
+
+	/**
+	 * @param name
+	 *            <code>big</code>, <code>little</code> or <code>native</code>
+	 * @return the byte order
+	 */
+	public static ByteOrder byteOrderOf(final String name) {
+		switch (name) {
+		case "big":
+			return ByteOrder.BIG_ENDIAN;
+		case "little":
+			return ByteOrder.LITTLE_ENDIAN;
+		case "native":
+			return ByteOrder.nativeOrder();
+		default:
+			throw new IllegalArgumentException("Unsupported byte order '" + name + "'.");
+		}
+	}
+
+	/**
+	 * @param type
+	 *            primitive type
+	 * @return size of an element in bytes
+	 */
+	public static int sizeOf(final Class<?> type) {
+		if (type == byte.class) {
+			return Byte.BYTES;
+		}
+		if (type == short.class) {
+			return Short.BYTES;
+		}
+		if (type == int.class) {
+			return Integer.BYTES;
+		}
+		if (type == long.class) {
+			return Long.BYTES;
+		}
+		if (type == float.class) {
+			return Float.BYTES;
+		}
+		if (type == double.class) {
+			return Double.BYTES;
+		}
+		throw new IllegalArgumentException("Unsupported element type " + type);
+	}
+
+	/**
+	 * @param file
+	 *            file holding nothing but the elements
+	 * @param type
+	 *            primitive element type
+	 * @param order
+	 *            byte order of the file
+	 * @return array of the elements
+	 * @throws IOException
+	 */
+	public static Object read(final File file, final Class<?> type, final ByteOrder order) throws IOException {
+		final int elementSize = sizeOf(type);
+		try (final FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ)) {
+			final long size = channel.size();
+			if (size % elementSize != 0) {
+				throw new IllegalArgumentException("Size of '" + file + "' (" + size
+						+ " bytes) is no multiple of the size of " + type);
+			}
+			if (size / elementSize > Integer.MAX_VALUE - 8) {
+				throw new IllegalArgumentException("'" + file + "' holds too many elements for an array.");
+			}
+			final int length = (int) (size / elementSize);
+			final Object array = Array.newInstance(type, length);
+			final ByteBuffer buffer = ByteBuffer.allocateDirect(CHUNK_SIZE).order(order);
+			int position = 0;
+			while (position < length) {
+				buffer.clear();
+				if (length - position < CHUNK_SIZE / elementSize) {
+					buffer.limit((length - position) * elementSize);
+				}
+				while (buffer.hasRemaining() && channel.read(buffer) >= 0) {
+					// fill the buffer
+				}
+				buffer.flip();
+				final int count = buffer.remaining() / elementSize;
+				if (count == 0) {
+					throw new EOFException("'" + file + "' was truncated while reading.");
+				}
+				copy(buffer, array, position, count);
+				position += count;
+			}
+			return array;
+		}
+	}
+
+	private static void copy(final ByteBuffer buffer, final Object array, final int position, final int count) {
+		if (array instanceof double[]) {
+			buffer.asDoubleBuffer().get((double[]) array, position, count);
+		} else if (array instanceof long[]) {
+			buffer.asLongBuffer().get((long[]) array, position, count);
+		} else if (array instanceof int[]) {
+			buffer.asIntBuffer().get((int[]) array, position, count);
+		} else if (array instanceof float[]) {
+			buffer.asFloatBuffer().get((float[]) array, position, count);
+		} else if (array instanceof short[]) {
+			buffer.asShortBuffer().get((short[]) array, position, count);
+		} else {
+			buffer.get((byte[]) array, position, count);
+		}
+	}
+
+	/**
+	 * Maps a window of a raw binary file read-only into memory. The buffer
+	 * lives off-heap in the page cache, which is shared by all processes
+	 * mapping the file. A single buffer can cover at most 2 GB.
+	 * 
+	 * @param file
+	 *            file holding nothing but the elements
+	 * @param type
+	 *            primitive element type
+	 * @param order
+	 *            byte order of the file
+	 * @param offset
+	 *            index of the first element to map
+	 * @param length
+	 *            number of elements to map, negative for all up to the end of
+	 *            the file
+	 * @return read-only {@link java.nio.Buffer} of the type, e.g. a
+	 *         {@link java.nio.DoubleBuffer} for <code>double</code>
+	 * @throws IOException
+	 */
+	public static Buffer map(final File file, final Class<?> type, final ByteOrder order, final long offset,
+			final long length) throws IOException {
+		final int elementSize = sizeOf(type);
+		try (final FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ)) {
+			final long elements = channel.size() / elementSize;
+			final long mapped = length < 0 ? elements - offset : length;
+			if (offset < 0 || mapped < 0 || offset + mapped > elements) {
+				throw new IllegalArgumentException("Cannot map elements " + offset + " to " + (offset + mapped)
+						+ " of '" + file + "', which holds " + elements + " elements of " + type);
+			}
+			if (mapped * elementSize > Integer.MAX_VALUE) {
+				throw new IllegalArgumentException("Cannot map more than 2 GB into one buffer. Map '" + file
+						+ "' in windows with offset and length.");
+			}
+			final ByteBuffer buffer = channel.map(MapMode.READ_ONLY, offset * elementSize, mapped * elementSize)
+					.order(order);
+			return viewOf(buffer, type);
+		}
+	}
+
+	private static Buffer viewOf(final ByteBuffer buffer, final Class<?> type) {
+		if (type == double.class) {
+			return buffer.asDoubleBuffer();
+		}
+		if (type == long.class) {
+			return buffer.asLongBuffer();
+		}
+		if (type == int.class) {
+			return buffer.asIntBuffer();
+		}
+		if (type == float.class) {
+			return buffer.asFloatBuffer();
+		}
+		if (type == short.class) {
+			return buffer.asShortBuffer();
+		}
+		return buffer;
+	}
+}
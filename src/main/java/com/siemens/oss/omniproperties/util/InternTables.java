@@ -0,0 +1,93 @@
+/*
+* Copyright Siemens AG, 2026
+*
+* Licensed under the Apache License, Version 2.0 the "License";
+* you may not use this file except in compliance with the License.
+* You may obtain a copy of the License at
+*
+* http://www.apache.org/licenses/LICENSE-2.0
+*
+* Unless required by applicable law or agreed to in writing, software
+* distributed under the License is distributed on an "AS IS" BASIS,
+* WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+* See the License for the specific language governing permissions and
+* limitations under the License.
+*/
+
+package com.siemens.oss.omniproperties.util;
+
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import com.siemens.oss.omniproperties.OmniProperties;
+
+/**
+ * The objects interned by {@link ReflectionUtil}, one table per
+ * {@link OmniProperties}. Properties are compared by identity (their
+ * <code>equals</code> compares the content) and referenced weakly, so a table
+ * is released together with its properties.
+ */
+final class InternTables {
+
+	private final ReferenceQueue<OmniProperties> released = new ReferenceQueue<>();
+	private final Map<Key, ConcurrentMap<Object, Object>> tables = new HashMap<>();
+
+	private static final class Key extends WeakReference<OmniProperties> {
+		private final int hash;
+
+		Key(final OmniProperties properties, final ReferenceQueue<OmniProperties> queue) {
+			super(properties, queue);
+			hash = System.identityHashCode(properties);
+		}
+
+		@Override
+		public int hashCode() {
+			return hash;
+		}
+
+		@Override
+		public boolean equals(final Object obj) {
+			if (obj == this) {
+				return true;
+			}
+			if (!(obj instanceof Key)) {
+				return false;
+			}
+			final OmniProperties properties = get();
+			return properties != null && properties == ((Key) obj).get();
+		}
+	}
+
+	/**
+	 * @return the table of <code>properties</code>, created if missing
+	 */
+	synchronized ConcurrentMap<Object, Object> get(final OmniProperties properties) {
+		expunge();
+		ConcurrentMap<Object, Object> table = tables.get(new Key(properties, null));
+		if (table == null) {
+			table = new ConcurrentHashMap<>();
+			tables.put(new Key(properties, released), table);
+		}
+		return table;
+	}
+
+	/**
+	 * lets <code>wrapper</code> use the table of <code>properties</code>
+	 */
+	synchronized void share(final OmniProperties properties, final OmniProperties wrapper) {
+		final ConcurrentMap<Object, Object> table = get(properties);
+		tables.put(new Key(wrapper, released), table);
+	}
+
+	private void expunge() {
+		Object key = released.poll();
+		while (key != null) {
+			tables.remove(key);
+			key = released.poll();
+		}
+	}
+}
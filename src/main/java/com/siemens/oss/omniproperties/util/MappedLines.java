@@ -0,0 +1,135 @@
+/*
+* Copyright Siemens AG, 2026
+*
+* Licensed under the Apache License, Version 2.0 the "License";
+* you may not use this file except in compliance with the License.
+* You may obtain a copy of the License at
+*
+* http://www.apache.org/licenses/LICENSE-2.0
+*
+* Unless required by applicable law or agreed to in writing, software
+* distributed under the License is distributed on an "AS IS" BASIS,
+* WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+* See the License for the specific language governing permissions and
+* limitations under the License.
+*/
+
+package com.siemens.oss.omniproperties.util;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileChannel.MapMode;
+import java.nio.charset.Charset;
+import java.nio.file.StandardOpenOption;
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.RandomAccess;
+
+/**
+ * Read-only list of the lines of a memory-mapped file. Only the offsets of the
+ * lines are held on the heap. A line is decoded each time it is read. Lines
+ * are terminated by <code>\n</code>, <code>\r</code> or
+ * <code>\r\n</code>, as with {@link java.io.BufferedReader#readLine()}.
+ * The charset must encode these characters as single bytes, like ASCII,
+ * UTF-8 or ISO-8859-1 do.
+ *
+ * Changing the file while it is mapped leads to undefined results.
+ */
+public final class MappedLines extends AbstractList<String> implements RandomAccess {
+
+	private static final int REGION_BITS = 30;
+	private static final long REGION_SIZE = 1L << REGION_BITS;
+	private static final byte LF = '\n';
+	private static final byte CR = '\r';
+
+	private final MappedByteBuffer[] regions;
+	private final long length;
+	private final Charset charset;
+	private long[] starts = new long[1024];
+	private int size;
+
+	public MappedLines(final File file, final Charset charset) throws IOException {
+		if (!Arrays.equals("\n\r".getBytes(charset), new byte[] { LF, CR })) {
+			throw new IllegalArgumentException("Line breaks are no single bytes in charset " + charset);
+		}
+		this.charset = charset;
+		try (final FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ)) {
+			length = channel.size();
+			regions = new MappedByteBuffer[(int) Math.max(1, (length + REGION_SIZE - 1) >>> REGION_BITS)];
+			for (int i = 0; i < regions.length; i++) {
+				final long position = i * REGION_SIZE;
+				regions[i] = channel.map(MapMode.READ_ONLY, position, Math.min(REGION_SIZE, length - position));
+			}
+		}
+		index();
+	}
+
+	private void index() {
+		boolean lineStart = true;
+		for (int r = 0; r < regions.length; r++) {
+			final MappedByteBuffer region = regions[r];
+			final long offset = r * REGION_SIZE;
+			final int limit = region.limit();
+			for (int i = 0; i < limit; i++) {
+				final byte current = region.get(i);
+				if (lineStart) {
+					if (current == LF && i + offset > 0 && byteAt(i + offset - 1) == CR) {
+						continue;
+					}
+					addStart(i + offset);
+					lineStart = false;
+				}
+				if (current == LF || current == CR) {
+					lineStart = true;
+				}
+			}
+		}
+	}
+
+	private void addStart(final long start) {
+		if (size == starts.length) {
+			starts = Arrays.copyOf(starts, size * 2);
+		}
+		starts[size++] = start;
+	}
+
+	private byte byteAt(final long position) {
+		return regions[(int) (position >>> REGION_BITS)].get((int) (position & (REGION_SIZE - 1)));
+	}
+
+	@Override
+	public String get(final int index) {
+		if (index < 0 || index >= size) {
+			throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+		}
+		final long start = starts[index];
+		long end = index + 1 < size ? starts[index + 1] : length;
+		if (end > start && byteAt(end - 1) == LF) {
+			end--;
+		}
+		if (end > start && byteAt(end - 1) == CR) {
+			end--;
+		}
+		final int region = (int) (start >>> REGION_BITS);
+		if (region == (int) ((end - 1) >>> REGION_BITS) || end == start) {
+			final ByteBuffer line = regions[region].duplicate();
+			final int position = (int) (start & (REGION_SIZE - 1));
+			line.limit(position + (int) (end - start));
+			line.position(position);
+			return charset.decode(line).toString();
+		}
+		final byte[] bytes = new byte[(int) (end - start)];
+		for (int i = 0; i < bytes.length; i++) {
+			bytes[i] = byteAt(start + i);
+		}
+		return new String(bytes, charset);
+	}
+
+	@Override
+	public int size() {
+		return size;
+	}
+}
@@ -0,0 +1,87 @@
+/*
+* Copyright Siemens AG, 2026
+*
+* Licensed under the Apache License, Version 2.0 the "License";
+* you may not use this file except in compliance with the License.
+* You may obtain a copy of the License at
+*
+* http://www.apache.org/licenses/LICENSE-2.0
+*
+* Unless required by applicable law or agreed to in writing, software
+* distributed under the License is distributed on an "AS IS" BASIS,
+* WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+* See the License for the specific language governing permissions and
+* limitations under the License.
+*/
+
+package com.siemens.oss.omniproperties.util;
+
+/**
+ * Parses numbers from a range of a {@link CharSequence} without creating a
+ * substring first.
+ */
+public final class NumberParser {
+
+	private NumberParser() {
+		// no instances
+	}
+
+	/**
+	 * @param chars
+	 * @param start
+	 *            index of the first character
+	 * @param end
+	 *            index after the last character
+	 * @return the decimal number with optional sign in the range
+	 * @throws NumberFormatException
+	 *             if the range is no valid long
+	 */
+	public static long parseLong(final CharSequence chars, final int start, final int end) {
+		int index = start;
+		final boolean negative = index < end && chars.charAt(index) == '-';
+		if (index < end && (negative || chars.charAt(index) == '+')) {
+			index++;
+		}
+		if (index == end) {
+			throw numberFormatException(chars, start, end);
+		}
+		long value = 0;
+		for (; index < end; index++) {
+			final int digit = Character.digit(chars.charAt(index), 10);
+			if (digit < 0 || value < (Long.MIN_VALUE + digit) / 10) {
+				throw numberFormatException(chars, start, end);
+			}
+			value = value * 10 - digit;
+		}
+		if (!negative) {
+			if (value == Long.MIN_VALUE) {
+				throw numberFormatException(chars, start, end);
+			}
+			value = -value;
+		}
+		return value;
+	}
+
+	/**
+	 * @see #parseLong(CharSequence, int, int)
+	 */
+	public static int parseInt(final CharSequence chars, final int start, final int end) {
+		final long value = parseLong(chars, start, end);
+		if (value < Integer.MIN_VALUE || value > Integer.MAX_VALUE) {
+			throw numberFormatException(chars, start, end);
+		}
+		return (int) value;
+	}
+
+	/**
+	 * @see Double#parseDouble(String)
+	 */
+	public static double parseDouble(final CharSequence chars, final int start, final int end) {
+		return Double.parseDouble(chars.subSequence(start, end).toString());
+	}
+
+	private static NumberFormatException numberFormatException(final CharSequence chars, final int start,
+			final int end) {
+		return new NumberFormatException("For input string: \"" + chars.subSequence(start, end) + "\"");
+	}
+}
@@ -28,14 +28,17 @@ import java.nio.file.Path;
 import org.antlr.runtime.ANTLRInputStream;
 import org.antlr.runtime.CommonTokenStream;
 import org.antlr.runtime.RecognitionException;
+import org.antlr.runtime.tree.CommonTree;
 import org.antlr.runtime.tree.CommonTreeNodeStream;
 
 import com.siemens.oss.omniproperties.OmniProperties;
 import com.siemens.oss.omniproperties.exceptions.ParseException;
 import com.siemens.oss.omniproperties.exceptions.PropertyNotFoundException;
+import com.siemens.oss.omniproperties.exceptions.ValidationException;
 import com.siemens.oss.omniproperties.parser.OmniPropertiesBuilder;
 import com.siemens.oss.omniproperties.parser.OmniPropertiesLexer;
 import com.siemens.oss.omniproperties.parser.OmniPropertiesParser;
+import com.siemens.oss.omniproperties.validation.DeferredValidator;
 
 /**
  * Bundles methods for reading {@link OmniProperties}. Users should not use this
@@ -57,10 +60,32 @@ public final class OmniPropertiesReader {
 	 */
 	public static void readFromStream(final InputStream input,
 			final OmniProperties properties) throws IOException {
+		final DeferredValidator deferred = properties.getValidator() instanceof DeferredValidator
+				? (DeferredValidator) properties.getValidator() : null;
+		if (deferred != null) {
+			deferred.begin();
+		}
+		boolean completed = false;
 		try {
 			readProperties(compileAst(input), properties);
+			completed = true;
 		} catch (RecognitionException | PropertyNotFoundException e) {
 			throw new ParseException(e);
+		} finally {
+			if (deferred != null) {
+				endDeferredValidation(deferred, completed);
+			}
+		}
+	}
+
+	private static void endDeferredValidation(final DeferredValidator deferred, final boolean completed) {
+		final Profiler.Section section = Profiler.section("deferred validation");
+		try {
+			deferred.end(completed);
+		} catch (ValidationException e) {
+			throw new ParseException("Deferred validation failed", e);
+		} finally {
+			section.close();
 		}
 	}
 
@@ -169,18 +194,40 @@ public final class OmniPropertiesReader {
 
 	private static CommonTreeNodeStream compileAst(final InputStream input)
 			throws IOException, RecognitionException {
-		final OmniPropertiesParser parser = new OmniPropertiesParser(
-				new CommonTokenStream(new OmniPropertiesLexer(
-						new ANTLRInputStream(input))));
-		return new CommonTreeNodeStream(parser.omniproperties().getTree());
+		final CommonTokenStream tokens;
+		final Profiler.Section lex = Profiler.section("lex");
+		try {
+			tokens = new CommonTokenStream(new OmniPropertiesLexer(
+					new ANTLRInputStream(input)));
+			tokens.fill();
+		} finally {
+			lex.close();
+		}
+		final Profiler.Section parse = Profiler.section("parse");
+		try {
+			final OmniPropertiesParser parser = new OmniPropertiesParser(tokens);
+			return new CommonTreeNodeStream(parser.omniproperties().getTree());
+		} finally {
+			parse.close();
+		}
 	}
 
 	private static void readProperties(final CommonTreeNodeStream treeNodes,
 			final OmniProperties properties) throws RecognitionException {
-		final OmniPropertiesBuilder builder = new OmniPropertiesBuilder(
-				treeNodes);
-		builder.setProperties(properties);
-		builder.parse();
+		final Profiler.Section section = Profiler.section("evaluate");
+		try {
+			if (properties.getParallelity() > 1) {
+				new ParallelEvaluator(properties, properties.getParallelity())
+						.evaluate((CommonTree) treeNodes.getTreeSource());
+				return;
+			}
+			final OmniPropertiesBuilder builder = new OmniPropertiesBuilder(
+					treeNodes);
+			builder.setProperties(properties);
+			builder.parse();
+		} finally {
+			section.close();
+		}
 	}
 
 }
@@ -0,0 +1,229 @@
+/*
+* Copyright Siemens AG, 2026
+*
+* Licensed under the Apache License, Version 2.0 the "License";
+* you may not use this file except in compliance with the License.
+* You may obtain a copy of the License at
+*
+* http://www.apache.org/licenses/LICENSE-2.0
+*
+* Unless required by applicable law or agreed to in writing, software
+* distributed under the License is distributed on an "AS IS" BASIS,
+* WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+* See the License for the specific language governing permissions and
+* limitations under the License.
+*/
+
+package com.siemens.oss.omniproperties.util;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.antlr.runtime.RecognitionException;
+import org.antlr.runtime.tree.CommonTree;
+import org.antlr.runtime.tree.CommonTreeNodeStream;
+
+import com.siemens.oss.omniproperties.LockableOmniProperties;
+import com.siemens.oss.omniproperties.OmniProperties;
+import com.siemens.oss.omniproperties.exceptions.ParseException;
+import com.siemens.oss.omniproperties.parser.OmniPropertiesBuilder;
+
+/**
+ * Evaluates the top level statements of a config concurrently where they are
+ * independent. Assignments containing a builder are evaluated on a thread
+ * pool as soon as all earlier assignments to the variables they reference
+ * are done. The results are put into the properties in the order of the
+ * statements, so the properties (including <code>~</code> defaults) are the
+ * same as after sequential evaluation. Includes and statements referencing
+ * <code>self</code> wait for all earlier statements and are evaluated
+ * sequentially.
+ *
+ * Builders without a variable dependency may run in any order. Builders
+ * with side effects on each other (e.g. creating and listing the same
+ * directory) must be connected by a variable or not be evaluated in parallel.
+ */
+final class ParallelEvaluator {
+
+	private static final AtomicInteger POOL_NUMBER = new AtomicInteger();
+
+	private final OmniProperties properties;
+	private final LockableOmniProperties shared;
+	private final int parallelity;
+
+	private static final class Statement {
+		private final CommonTree tree;
+		private final Set<String> reads = new HashSet<>();
+		private boolean barrier;
+		private boolean expensive;
+		private Future<Object> value;
+
+		Statement(final CommonTree tree) {
+			this.tree = tree;
+		}
+
+		String getVariable() {
+			return tree.getType() == OmniPropertiesBuilder.VAR ? tree.getText() : null;
+		}
+
+		boolean isDefault() {
+			return tree.getChild(0).getType() == OmniPropertiesBuilder.DEFAULTS;
+		}
+
+		CommonTree getExpression() {
+			return (CommonTree) tree.getChild(1);
+		}
+	}
+
+	ParallelEvaluator(final OmniProperties properties, final int parallelity) {
+		this.properties = properties;
+		this.parallelity = parallelity;
+		this.shared = LockableOmniProperties.wrap(properties);
+		shared.setValidator(properties.getValidator());
+		ReflectionUtil.shareInterned(properties, shared);
+	}
+
+	void evaluate(final CommonTree root) throws RecognitionException {
+		final ExecutorService executor = Executors.newFixedThreadPool(parallelity, newThreadFactory());
+		final Deque<Statement> pending = new ArrayDeque<>();
+		try {
+			for (int i = 0; i < root.getChildCount(); i++) {
+				final Statement statement = analyze((CommonTree) root.getChild(i));
+				if (statement.barrier) {
+					commit(pending, pending.size());
+					walker(properties, statement.tree).statement();
+					continue;
+				}
+				commit(pending, lastWriterOf(pending, statement.reads) + 1);
+				final Callable<Object> evaluation = evaluation(statement.getExpression());
+				if (statement.expensive) {
+					statement.value = executor.submit(evaluation);
+				} else {
+					final FutureTask<Object> task = new FutureTask<>(evaluation);
+					task.run();
+					statement.value = task;
+				}
+				pending.add(statement);
+			}
+			commit(pending, pending.size());
+		} finally {
+			executor.shutdownNow();
+		}
+	}
+
+	private static ThreadFactory newThreadFactory() {
+		final String prefix = "omniproperties-build-" + POOL_NUMBER.incrementAndGet() + "-";
+		final AtomicInteger threadNumber = new AtomicInteger();
+		return new ThreadFactory() {
+			@Override
+			public Thread newThread(Runnable runnable) {
+				final Thread thread = new Thread(runnable, prefix + threadNumber.incrementAndGet());
+				thread.setDaemon(true);
+				return thread;
+			}
+		};
+	}
+
+	private Callable<Object> evaluation(final CommonTree expression) {
+		return new Callable<Object>() {
+			@Override
+			public Object call() throws RecognitionException {
+				return walker(shared, expression).expression();
+			}
+		};
+	}
+
+	private static OmniPropertiesBuilder walker(final OmniProperties properties, final CommonTree tree) {
+		final OmniPropertiesBuilder walker = new OmniPropertiesBuilder(new CommonTreeNodeStream(tree));
+		walker.setProperties(properties);
+		return walker;
+	}
+
+	private static Statement analyze(final CommonTree tree) {
+		final Statement statement = new Statement(tree);
+		statement.barrier = tree.getType() != OmniPropertiesBuilder.VAR;
+		collect(statement.getExpression() == null ? tree : statement.getExpression(), statement);
+		return statement;
+	}
+
+	private static void collect(final CommonTree tree, final Statement statement) {
+		switch (tree.getType()) {
+		case OmniPropertiesBuilder.QUALIFIEDNAME:
+			statement.reads.add(tree.getText());
+			statement.barrier |= OmniProperties.SELF.equals(tree.getText());
+			break;
+		case OmniPropertiesBuilder.BUILDER:
+			statement.expensive = true;
+			break;
+		default:
+			break;
+		}
+		for (int i = 0; i < tree.getChildCount(); i++) {
+			collect((CommonTree) tree.getChild(i), statement);
+		}
+	}
+
+	/**
+	 * @return index of the last pending statement assigning one of the
+	 *         variables, -1 if none
+	 */
+	private static int lastWriterOf(final Deque<Statement> pending, final Set<String> variables) {
+		int last = -1;
+		int index = 0;
+		for (Iterator<Statement> iterator = pending.iterator(); iterator.hasNext(); index++) {
+			if (variables.contains(iterator.next().getVariable())) {
+				last = index;
+			}
+		}
+		return last;
+	}
+
+	/**
+	 * Puts the values of the first <code>count</code> pending statements
+	 * into the properties, in order.
+	 */
+	private void commit(final Deque<Statement> pending, final int count) throws RecognitionException {
+		for (int i = 0; i < count; i++) {
+			final Statement statement = pending.poll();
+			final Object value = valueOf(statement);
+			final String variable = statement.getVariable();
+			if (variable.equals(OmniProperties.SELF)) {
+				throw new ParseException(statement.tree, " 'self' is a reserved keyword.");
+			}
+			if (!statement.isDefault() || !shared.containsKey(variable)) {
+				shared.put(variable, value);
+			}
+		}
+	}
+
+	private static Object valueOf(final Statement statement) throws RecognitionException {
+		try {
+			return statement.value.get();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new ParseException(statement.tree, e);
+		} catch (ExecutionException e) {
+			final Throwable cause = e.getCause();
+			if (cause instanceof RuntimeException) {
+				throw (RuntimeException) cause;
+			}
+			if (cause instanceof RecognitionException) {
+				throw (RecognitionException) cause;
+			}
+			if (cause instanceof Error) {
+				throw (Error) cause;
+			}
+			throw new ParseException(statement.tree, cause);
+		}
+	}
+}
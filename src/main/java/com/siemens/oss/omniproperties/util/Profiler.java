@@ -0,0 +1,254 @@
+/*
+* Copyright Siemens AG, 2026
+*
+* Licensed under the Apache License, Version 2.0 the "License";
+* you may not use this file except in compliance with the License.
+* You may obtain a copy of the License at
+*
+* http://www.apache.org/licenses/LICENSE-2.0
+*
+* Unless required by applicable law or agreed to in writing, software
+* distributed under the License is distributed on an "AS IS" BASIS,
+* WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+* See the License for the specific language governing permissions and
+* limitations under the License.
+*/
+
+package com.siemens.oss.omniproperties.util;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.Charset;
+import java.nio.file.Files;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Map.Entry;
+
+/**
+ * Records the time spent in nested sections of reading an OmniProperties
+ * config (lexing, parsing, includes, object creation, class loading). Sections
+ * are opened with <code>section(name)</code> and closed in a finally block. As
+ * long as no profiler is started, <code>section(name)</code> returns a shared
+ * no-op section. Section names composed of a prefix and a name are only
+ * concatenated while profiling, see <code>section(prefix, name)</code>.
+ * 
+ * This class is not intended to be called by the user directly. Use the
+ * <code>-profile</code> option of
+ * {@link com.siemens.oss.omniproperties.run.GenericMain} or
+ * {@link com.siemens.oss.omniproperties.Run} instead.
+ */
+public final class Profiler {
+
+	private static final Section NO_SECTION = new Section(null, null, null);
+	private static final double NANOS_PER_MILLI = 1e6;
+
+	private static volatile Profiler active;
+
+	private final ThreadLocal<Deque<Section>> stacks = new ThreadLocal<Deque<Section>>() {
+		@Override
+		protected Deque<Section> initialValue() {
+			return new ArrayDeque<>();
+		}
+	};
+
+	/**
+	 * frame name -> {calls, total nanos, self nanos}
+	 */
+	private final Map<String, long[]> frames = new HashMap<>();
+
+	/**
+	 * collapsed stack -> self nanos
+	 */
+	private final Map<String, long[]> collapsedStacks = new HashMap<>();
+
+	private Profiler() {
+		// use start()
+	}
+
+	/**
+	 * A timed section. Closing it records the elapsed time.
+	 */
+	public static final class Section implements AutoCloseable {
+		private final Profiler profiler;
+		private final String name;
+		private final String path;
+		private final long start = System.nanoTime();
+		private long childNanos;
+
+		private Section(final Profiler profiler, final String name, final String path) {
+			this.profiler = profiler;
+			this.name = name;
+			this.path = path;
+		}
+
+		@Override
+		public void close() {
+			if (profiler != null) {
+				profiler.exit(this);
+			}
+		}
+	}
+
+	/**
+	 * Starts profiling. A running profiler is replaced.
+	 *
+	 * @return the new profiler
+	 */
+	public static Profiler start() {
+		final Profiler profiler = new Profiler();
+		active = profiler;
+		return profiler;
+	}
+
+	/**
+	 * Stops profiling.
+	 *
+	 * @return the stopped profiler, null if none was running
+	 */
+	public static Profiler stop() {
+		final Profiler profiler = active;
+		active = null;
+		return profiler;
+	}
+
+	public static boolean isActive() {
+		return active != null;
+	}
+
+	/**
+	 * Opens a section.
+	 *
+	 * @param name
+	 *            name of the section
+	 * @return the section, to be closed when the section ends
+	 */
+	public static Section section(final String name) {
+		final Profiler profiler = active;
+		if (profiler == null) {
+			return NO_SECTION;
+		}
+		return profiler.enter(name.replace(';', ','));
+	}
+
+	/**
+	 * Opens a section named <code>prefix + name</code>. The name is only built
+	 * if a profiler is running.
+	 *
+	 * @param prefix
+	 *            prefix of the name of the section
+	 * @param name
+	 *            rest of the name of the section
+	 * @return the section, to be closed when the section ends
+	 */
+	public static Section section(final String prefix, final Object name) {
+		final Profiler profiler = active;
+		if (profiler == null) {
+			return NO_SECTION;
+		}
+		return profiler.enter((prefix + name).replace(';', ','));
+	}
+
+	private Section enter(final String name) {
+		final Deque<Section> stack = stacks.get();
+		final Section parent = stack.peek();
+		final Section section = new Section(this, name, parent == null ? name : parent.path + ";" + name);
+		stack.push(section);
+		return section;
+	}
+
+	private void exit(final Section section) {
+		final long elapsed = System.nanoTime() - section.start;
+		final Deque<Section> stack = stacks.get();
+		while (!stack.isEmpty() && stack.pop() != section) {
+			// sections left open by an exception
+		}
+		final Section parent = stack.peek();
+		if (parent != null) {
+			parent.childNanos += elapsed;
+		}
+		boolean recursive = false;
+		for (Section open : stack) {
+			recursive |= open.name.equals(section.name);
+		}
+		final long self = elapsed - section.childNanos;
+		synchronized (this) {
+			final long[] frame = get(frames, section.name, 3);
+			frame[0]++;
+			if (!recursive) {
+				frame[1] += elapsed;
+			}
+			frame[2] += self;
+			get(collapsedStacks, section.path, 1)[0] += self;
+		}
+	}
+
+	private static long[] get(final Map<String, long[]> map, final String key, final int length) {
+		long[] values = map.get(key);
+		if (values == null) {
+			values = new long[length];
+			map.put(key, values);
+		}
+		return values;
+	}
+
+	/**
+	 * Writes the report to a file and the collapsed stacks (input format of
+	 * flame graph tools) to the same file with suffix <code>.collapsed</code>.
+	 *
+	 * @param report
+	 *            report file
+	 * @throws IOException
+	 */
+	public void write(final File report) throws IOException {
+		final Charset utf8 = Charset.forName("UTF-8");
+		try (final Writer writer = Files.newBufferedWriter(report.toPath(), utf8)) {
+			writeReport(writer);
+		}
+		try (final Writer writer = Files.newBufferedWriter(new File(report.getPath() + ".collapsed").toPath(), utf8)) {
+			writeCollapsedStacks(writer);
+		}
+	}
+
+	/**
+	 * Writes one line per section name, sorted by total time.
+	 *
+	 * @param writer
+	 * @throws IOException
+	 */
+	public synchronized void writeReport(final Writer writer) throws IOException {
+		final List<Entry<String, long[]>> entries = new ArrayList<>(frames.entrySet());
+		Collections.sort(entries, new Comparator<Entry<String, long[]>>() {
+			@Override
+			public int compare(Entry<String, long[]> a, Entry<String, long[]> b) {
+				return Long.compare(b.getValue()[1], a.getValue()[1]);
+			}
+		});
+		writer.write(String.format(Locale.ROOT, "%12s %12s %8s  %s%n", "total ms", "self ms", "calls", "section"));
+		for (Entry<String, long[]> entry : entries) {
+			final long[] frame = entry.getValue();
+			writer.write(String.format(Locale.ROOT, "%12.3f %12.3f %8d  %s%n", Double.valueOf(frame[1] / NANOS_PER_MILLI),
+					Double.valueOf(frame[2] / NANOS_PER_MILLI), Long.valueOf(frame[0]), entry.getKey()));
+		}
+	}
+
+	/**
+	 * Writes one line per stack: frames separated by ';' followed by the self
+	 * time in microseconds.
+	 *
+	 * @param writer
+	 * @throws IOException
+	 */
+	public synchronized void writeCollapsedStacks(final Writer writer) throws IOException {
+		for (Entry<String, long[]> entry : collapsedStacks.entrySet()) {
+			writer.write(entry.getKey() + " " + entry.getValue()[0] / 1000 + "\n");
+		}
+	}
+}
@@ -16,27 +16,48 @@
 
 package com.siemens.oss.omniproperties.util;
 
+import java.io.File;
 import java.io.IOException;
+import java.io.InputStream;
+import java.lang.ref.WeakReference;
 import java.lang.reflect.Array;
 import java.lang.reflect.Constructor;
 import java.lang.reflect.Field;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.net.URI;
 import java.net.URL;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.Enumeration;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Properties;
+import java.util.Set;
+import java.util.UUID;
+import java.util.WeakHashMap;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import com.siemens.oss.omniproperties.Immutable;
 import com.siemens.oss.omniproperties.Initializable;
 import com.siemens.oss.omniproperties.ObjectBuilder;
+import com.siemens.oss.omniproperties.OmniProperties;
 import com.siemens.oss.omniproperties.exceptions.InjectionException;
 import com.siemens.oss.omniproperties.exceptions.ParseException;
 import com.siemens.oss.omniproperties.exceptions.PropertyInstantiationException;
@@ -64,24 +85,65 @@ final public class ReflectionUtil {
 		BASETYPE_TO_WRAPPER_MAP.put(byte.class, Byte.class);
 	}
 
+	private static final Set<Class<?>> IMMUTABLE_CLASSES = new HashSet<Class<?>>(Arrays.<Class<?>> asList(
+			String.class, Integer.class, Long.class, Short.class, Byte.class, Character.class, Boolean.class,
+			Float.class, Double.class, BigInteger.class, BigDecimal.class, File.class, URI.class, Locale.class,
+			UUID.class));
+
+	private static volatile boolean interning = Boolean.getBoolean("omniproperties.intern");
+
+	private static final InternTables INTERNED = new InternTables();
+
 	private static final Logger LOG = LoggerFactory
 			.getLogger(ReflectionUtil.class);
 	private static final String PROPERTIES_FILENAME = "omniproperties-class-shortcuts.properties";
 
-	private static final Properties CLASS_SHORTCUTS = new Properties();
-	static {
+	/**
+	 * shortcut -> class name, merged from all shortcut files on the class path
+	 */
+	private static final Map<String, String> CLASS_SHORTCUTS = loadShortcuts();
+
+	/**
+	 * classes resolved by the most recently used class loader
+	 */
+	private static volatile ClassCache lastClassCache;
+
+	private static final Map<ClassLoader, ClassCache> CLASS_CACHES = new WeakHashMap<>();
+
+	/**
+	 * Resolved classes of one class loader. Classes are held weakly to not
+	 * keep the class loader alive.
+	 */
+	private static final class ClassCache {
+		private final WeakReference<ClassLoader> loader;
+		private final ConcurrentMap<String, WeakReference<Class<?>>> classes = new ConcurrentHashMap<>();
+
+		ClassCache(final ClassLoader loader) {
+			this.loader = new WeakReference<>(loader);
+		}
+	}
+
+	private static Map<String, String> loadShortcuts() {
+		final Properties shortcuts = new Properties();
 		try {
 			final Enumeration<URL> enumeration = Thread.currentThread()
 					.getContextClassLoader().getResources(PROPERTIES_FILENAME);
 			while (enumeration.hasMoreElements()) {
 				final URL url = enumeration.nextElement();
 				LOG.debug("loading " + url);
-				CLASS_SHORTCUTS.load(url.openStream());
+				try (final InputStream input = url.openStream()) {
+					shortcuts.load(input);
+				}
 			}
 		} catch (IOException e) {
 			throw new ParseException("Error initializing OmniProperties", e);
 		}
-		LOG.debug("Loaded class shortcuts " + CLASS_SHORTCUTS);
+		LOG.debug("Loaded class shortcuts " + shortcuts);
+		final Map<String, String> index = new HashMap<>();
+		for (String shortcut : shortcuts.stringPropertyNames()) {
+			index.put(shortcut, shortcuts.getProperty(shortcut));
+		}
+		return Collections.unmodifiableMap(index);
 	}
 
 	private ReflectionUtil() {
@@ -95,7 +157,19 @@ final public class ReflectionUtil {
 		}
 	}
 
+	/**
+	 * Concatenates two arrays. The result has the component type of
+	 * <code>array1</code>, where boxed primitives become primitives, e.g.
+	 * <code>Integer[]</code> yields <code>int[]</code>.
+	 */
 	public static Object mergeArrays(Object array1, Object array2) {
+		final Class<?> type1 = array1.getClass().getComponentType();
+		final Class<?> type2 = array2.getClass().getComponentType();
+		// bulk copy only where it yields the same type as the element-wise merge
+		if (type1.isPrimitive() ? type1 == type2 && BASETYPE_TO_WRAPPER_MAP.containsKey(type1)
+				: !BASETYPE_TO_WRAPPER_MAP.containsValue(type1) && type1.isAssignableFrom(type2)) {
+			return ArraySets.concat(new Object[] { array1, array2 });
+		}
 
 		final ArrayList<Object> list = new ArrayList<Object>();
 
@@ -209,6 +283,149 @@ final public class ReflectionUtil {
 		return instance;
 	}
 
+	/**
+	 * Enables or disables interning of objects created from classes marked
+	 * {@link Immutable} (and of well known immutable JDK classes): while
+	 * enabled, such objects are only created once per distinct list of
+	 * constructor arguments and {@link OmniProperties} they are read into.
+	 * The interned objects are held per {@link OmniProperties} and released
+	 * together with them. Defaults to the system property
+	 * <code>omniproperties.intern</code>.
+	 * 
+	 * @param interning
+	 */
+	public static void setInterning(final boolean interning) {
+		ReflectionUtil.interning = interning;
+	}
+
+	public static boolean isInterning() {
+		return interning;
+	}
+
+	/**
+	 * @param className
+	 * @param args
+	 *            constructor arguments
+	 * @return key for <code>interned</code> and <code>intern</code>, null if
+	 *         interning is disabled or the object must not be interned
+	 */
+	public static Object internKey(final String className, final Object[] args) {
+		if (!interning) {
+			return null;
+		}
+		final Class<?> clazz = classForName(className);
+		if (!isImmutable(clazz)) {
+			return null;
+		}
+		for (Object arg : args) {
+			if (!isValue(arg)) {
+				return null;
+			}
+		}
+		return new InternKey(clazz, args);
+	}
+
+	/**
+	 * @param properties
+	 *            properties read into
+	 * @param key
+	 *            from <code>internKey</code>
+	 * @return the interned object, null if none
+	 */
+	public static Object interned(final OmniProperties properties, final Object key) {
+		return INTERNED.get(properties).get(key);
+	}
+
+	/**
+	 * @param properties
+	 *            properties read into
+	 * @param key
+	 *            from <code>internKey</code>
+	 * @param value
+	 *            the newly created object
+	 * @return the canonical object for the key
+	 */
+	public static Object intern(final OmniProperties properties, final Object key, final Object value) {
+		final Object interned = INTERNED.get(properties).putIfAbsent(key, value);
+		return interned == null ? value : interned;
+	}
+
+	/**
+	 * lets <code>wrapper</code>, which is read into instead of
+	 * <code>properties</code>, share the objects interned for
+	 * <code>properties</code>
+	 */
+	static void shareInterned(final OmniProperties properties, final OmniProperties wrapper) {
+		INTERNED.share(properties, wrapper);
+	}
+
+	private static boolean isImmutable(final Class<?> clazz) {
+		return clazz.isAnnotationPresent(Immutable.class) || IMMUTABLE_CLASSES.contains(clazz);
+	}
+
+	private static boolean isValue(final Object arg) {
+		if (arg == null) {
+			return true;
+		}
+		final Class<?> clazz = arg.getClass();
+		if (clazz.isArray()) {
+			if (clazz.getComponentType().isPrimitive()) {
+				return true;
+			}
+			for (Object element : (Object[]) arg) {
+				if (!isValue(element)) {
+					return false;
+				}
+			}
+			return true;
+		}
+		return IMMUTABLE_CLASSES.contains(clazz) || arg instanceof java.nio.file.Path || clazz.isEnum();
+	}
+
+	private static final class InternKey {
+		private final Class<?> clazz;
+		private final Object[] args;
+		private final int hash;
+
+		InternKey(final Class<?> clazz, final Object[] args) {
+			this.clazz = clazz;
+			// arrays are copied: the caller may modify them later
+			this.args = (Object[]) copyArrays(args);
+			this.hash = 31 * clazz.hashCode() + Arrays.deepHashCode(args);
+		}
+
+		@Override
+		public int hashCode() {
+			return hash;
+		}
+
+		@Override
+		public boolean equals(final Object obj) {
+			if (!(obj instanceof InternKey)) {
+				return false;
+			}
+			final InternKey other = (InternKey) obj;
+			return clazz == other.clazz && Arrays.deepEquals(args, other.args);
+		}
+	}
+
+	private static Object copyArrays(final Object value) {
+		if (value instanceof Object[]) {
+			final Object[] copy = ((Object[]) value).clone();
+			for (int i = 0; i < copy.length; i++) {
+				copy[i] = copyArrays(copy[i]);
+			}
+			return copy;
+		}
+		if (value != null && value.getClass().isArray()) {
+			final int length = Array.getLength(value);
+			final Object copy = Array.newInstance(value.getClass().getComponentType(), length);
+			System.arraycopy(value, 0, copy, 0, length);
+			return copy;
+		}
+		return value;
+	}
+
 	public static Object createArray(final List<?> args) {
 		return createArray(args, null);
 	}
@@ -386,13 +603,98 @@ final public class ReflectionUtil {
 		return loader;
 	}
 
+	/**
+	 * Resolves a class name or shortcut. Resolved classes are cached per
+	 * class loader.
+	 * 
+	 * @param className
+	 * @return the class
+	 */
 	public static Class<?> classForName(final String className) {
-		try {
-			return getClassLoader().loadClass(
-					CLASS_SHORTCUTS.getProperty(className, className));
-		} catch (ClassNotFoundException e) {
-			throw new PropertyInstantiationException(e);
+		final ClassLoader loader = getClassLoader();
+		final ClassCache cache = classCacheOf(loader);
+		final WeakReference<Class<?>> cached = cache.classes.get(className);
+		Class<?> clazz = cached == null ? null : cached.get();
+		if (clazz == null) {
+			final String resolvedName = resolveShortcut(className);
+			final Profiler.Section section = Profiler.section("load ", className);
+			try {
+				clazz = loader.loadClass(resolvedName);
+			} catch (ClassNotFoundException e) {
+				throw new PropertyInstantiationException(e);
+			} finally {
+				section.close();
+			}
+			final WeakReference<Class<?>> reference = new WeakReference<Class<?>>(clazz);
+			cache.classes.put(className, reference);
+			cache.classes.put(resolvedName, reference);
+		}
+		return clazz;
+	}
+
+	/**
+	 * @param className
+	 * @return the class name the shortcut stands for, or the given name if
+	 *         it is no shortcut
+	 */
+	public static String resolveShortcut(final String className) {
+		final String resolved = CLASS_SHORTCUTS.get(className);
+		return resolved == null ? className : resolved;
+	}
+
+	private static ClassCache classCacheOf(final ClassLoader loader) {
+		final ClassCache last = lastClassCache;
+		if (last != null && last.loader.get() == loader) {
+			return last;
+		}
+		synchronized (CLASS_CACHES) {
+			ClassCache cache = CLASS_CACHES.get(loader);
+			if (cache == null) {
+				cache = new ClassCache(loader);
+				CLASS_CACHES.put(loader, cache);
+			}
+			lastClassCache = cache;
+			return cache;
+		}
+	}
+
+	/**
+	 * Loads the classes of all shortcuts in the background, such that reading
+	 * configs later finds them in the cache. Classes are loaded by the context
+	 * class loader of the calling thread.
+	 * 
+	 * @param parallelity
+	 *            number of loading threads
+	 * @return completes when all classes are loaded
+	 */
+	public static CompletableFuture<Void> prewarm(final int parallelity) {
+		final ClassLoader loader = getClassLoader();
+		final ExecutorService executor = Executors.newFixedThreadPool(parallelity, new ThreadFactory() {
+			private final AtomicInteger number = new AtomicInteger();
+
+			@Override
+			public Thread newThread(Runnable runnable) {
+				final Thread thread = new Thread(runnable, "omniproperties-prewarm-" + number.incrementAndGet());
+				thread.setDaemon(true);
+				thread.setContextClassLoader(loader);
+				return thread;
+			}
+		});
+		final List<CompletableFuture<Void>> loads = new ArrayList<>();
+		for (final String shortcut : CLASS_SHORTCUTS.keySet()) {
+			loads.add(CompletableFuture.runAsync(new Runnable() {
+				@Override
+				public void run() {
+					try {
+						classForName(shortcut);
+					} catch (PropertyInstantiationException e) {
+						LOG.debug("Cannot load class of shortcut '" + shortcut + "'", e);
+					}
+				}
+			}, executor));
 		}
+		executor.shutdown();
+		return CompletableFuture.allOf(loads.toArray(new CompletableFuture<?>[loads.size()]));
 	}
 
 	public static Object getMember(Object obj, String name) {
@@ -0,0 +1,268 @@
+/*
+* Copyright Siemens AG, 2026
+*
+* Licensed under the Apache License, Version 2.0 the "License";
+* you may not use this file except in compliance with the License.
+* You may obtain a copy of the License at
+*
+* http://www.apache.org/licenses/LICENSE-2.0
+*
+* Unless required by applicable law or agreed to in writing, software
+* distributed under the License is distributed on an "AS IS" BASIS,
+* WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+* See the License for the specific language governing permissions and
+* limitations under the License.
+*/
+
+package com.siemens.oss.omniproperties.util;
+
+import java.lang.reflect.Array;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BiConsumer;
+import java.util.function.BinaryOperator;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Collector;
+
+/**
+ * Uniform random sample of fixed size of a sequence of unknown length, drawn
+ * with Algorithm L (Li, 1994): after the reservoir is full, the number of
+ * items to skip is drawn directly, so only O(k(1 + log(n/k))) random numbers
+ * are needed for k out of n items.
+ *
+ * Reservoirs of disjoint parts of a sequence can be merged, e.g. to sample a
+ * parallel stream with {@link #collector(int, Long)}. A merged reservoir does
+ * not accept further items.
+ *
+ * Reservoirs are not thread safe.
+ *
+ *
+ * @param <T>
+ *            type of the items
+ */
+public final class Reservoir<T> {
+
+	private final int size;
+	private final Random random;
+	private final List<T> items;
+	private long count;
+	private long next;
+	private double w;
+	private boolean merged;
+
+	/**
+	 * @param size
+	 *            size of the sample
+	 * @param random
+	 *            source of randomness, seeded for reproducible samples
+	 */
+	public Reservoir(final int size, final Random random) {
+		if (size < 0) {
+			throw new IllegalArgumentException("Sample size must not be negative: " + size);
+		}
+		this.size = size;
+		this.random = random;
+		this.items = new ArrayList<>(size);
+	}
+
+	public void offer(final T item) {
+		if (merged) {
+			throw new IllegalStateException("A merged reservoir does not accept further items.");
+		}
+		if (size == 0) {
+			count++;
+			return;
+		}
+		if (count < size) {
+			items.add(item);
+			count++;
+			if (count == size) {
+				w = nextW(1.0, size, random);
+				next = nextIndex(count - 1, w, random);
+			}
+			return;
+		}
+		if (count == next) {
+			items.set(random.nextInt(size), item);
+			w = nextW(w, size, random);
+			next = nextIndex(count, w, random);
+		}
+		count++;
+	}
+
+	public void offerAll(final Iterable<? extends T> iterable) {
+		for (T item : iterable) {
+			offer(item);
+		}
+	}
+
+	/**
+	 * @return number of items offered
+	 */
+	public long getCount() {
+		return count;
+	}
+
+	/**
+	 * @return the sample in no particular order
+	 */
+	public List<T> getSample() {
+		return Collections.unmodifiableList(items);
+	}
+
+	/**
+	 * Merges the samples of two disjoint sequences into a sample of their
+	 * union. The number of items taken from each sample is hypergeometrically
+	 * distributed, such that the result is uniform.
+	 *
+	 * @param other
+	 *            reservoir of the same size
+	 * @return new merged reservoir
+	 */
+	public Reservoir<T> merge(final Reservoir<T> other) {
+		if (other.size != size) {
+			throw new IllegalArgumentException("Cannot merge reservoirs of size " + size + " and " + other.size);
+		}
+		final Reservoir<T> result = new Reservoir<>(size, random);
+		result.count = count + other.count;
+		result.merged = true;
+		long remaining = count;
+		long otherRemaining = other.count;
+		int taken = 0;
+		int otherTaken = 0;
+		for (int i = 0; i < Math.min(size, result.count); i++) {
+			if (random.nextDouble() * (remaining + otherRemaining) < remaining) {
+				remaining--;
+				taken++;
+			} else {
+				otherRemaining--;
+				otherTaken++;
+			}
+		}
+		takeRandom(items, taken, result.items);
+		takeRandom(other.items, otherTaken, result.items);
+		return result;
+	}
+
+	private void takeRandom(final List<T> source, final int number, final List<T> target) {
+		final List<T> shuffled = new ArrayList<>(source);
+		for (int i = 0; i < number; i++) {
+			Collections.swap(shuffled, i, i + random.nextInt(shuffled.size() - i));
+			target.add(shuffled.get(i));
+		}
+	}
+
+	/**
+	 * Draws the indexes of a uniform sample of a sequence of known length,
+	 * e.g. of an array.
+	 *
+	 * @param length
+	 *            length of the sequence
+	 * @param size
+	 *            size of the sample
+	 * @param random
+	 * @return sorted indexes of the sample, all indexes if the sequence is not
+	 *         longer than the sample
+	 */
+	public static int[] sampleIndexes(final int length, final int size, final Random random) {
+		if (size < 0) {
+			throw new IllegalArgumentException("Sample size must not be negative: " + size);
+		}
+		final int[] indexes = new int[Math.min(length, size)];
+		for (int i = 0; i < indexes.length; i++) {
+			indexes[i] = i;
+		}
+		if (length <= size || size == 0) {
+			return indexes;
+		}
+		double w = nextW(1.0, size, random);
+		long index = nextIndex(size - 1, w, random);
+		while (index < length) {
+			indexes[random.nextInt(size)] = (int) index;
+			w = nextW(w, size, random);
+			index = nextIndex(index, w, random);
+		}
+		Arrays.sort(indexes);
+		return indexes;
+	}
+
+	/**
+	 * @param array
+	 *            array of any type
+	 * @param size
+	 *            size of the sample
+	 * @param random
+	 * @return array of the same type with a uniform sample of the elements, in
+	 *         the order of the array
+	 */
+	public static Object sample(final Object array, final int size, final Random random) {
+		if (array == null || !array.getClass().isArray()) {
+			throw new IllegalArgumentException("Object is not an array.");
+		}
+		final int[] indexes = sampleIndexes(Array.getLength(array), size, random);
+		return ArraySets.select(array, indexes, indexes.length);
+	}
+
+	/**
+	 * @param size
+	 *            size of the sample
+	 * @param seed
+	 *            seed for reproducible samples of sequential streams,
+	 *            <code>null</code> for a random seed
+	 * @return collector drawing a uniform sample. On parallel streams, each
+	 *         part is sampled separately and the samples are merged.
+	 */
+	public static <T> Collector<T, Reservoir<T>, List<T>> collector(final int size, final Long seed) {
+		final long base = seed == null ? ThreadLocalRandom.current().nextLong() : seed.longValue();
+		return Collector.of(new Supplier<Reservoir<T>>() {
+			private final AtomicLong parts = new AtomicLong();
+
+			@Override
+			public Reservoir<T> get() {
+				final long part = parts.getAndIncrement();
+				return new Reservoir<>(size, new Random(base + part * 0x9E3779B97F4A7C15L));
+			}
+		}, new BiConsumer<Reservoir<T>, T>() {
+			@Override
+			public void accept(Reservoir<T> reservoir, T item) {
+				reservoir.offer(item);
+			}
+		}, new BinaryOperator<Reservoir<T>>() {
+			@Override
+			public Reservoir<T> apply(Reservoir<T> reservoir, Reservoir<T> other) {
+				return reservoir.merge(other);
+			}
+		}, new Function<Reservoir<T>, List<T>>() {
+			@Override
+			public List<T> apply(Reservoir<T> reservoir) {
+				return reservoir.getSample();
+			}
+		});
+	}
+
+	private static double uniform(final Random random) {
+		return 1.0 - random.nextDouble();
+	}
+
+	private static double nextW(final double w, final int size, final Random random) {
+		return w * Math.exp(Math.log(uniform(random)) / size);
+	}
+
+	/**
+	 * @return index of the next item to put into the reservoir, saturated at
+	 *         {@link Long#MAX_VALUE}
+	 */
+	private static long nextIndex(final long index, final double w, final Random random) {
+		final double skip = Math.floor(Math.log(uniform(random)) / Math.log1p(-w));
+		if (skip >= Long.MAX_VALUE - index - 1) {
+			return Long.MAX_VALUE;
+		}
+		return index + (long) skip + 1;
+	}
+}
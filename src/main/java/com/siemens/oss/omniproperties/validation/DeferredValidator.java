@@ -0,0 +1,165 @@
+/*
+* Copyright Siemens AG, 2026
+*
+* Licensed under the Apache License, Version 2.0 the "License";
+* you may not use this file except in compliance with the License.
+* You may obtain a copy of the License at
+*
+* http://www.apache.org/licenses/LICENSE-2.0
+*
+* Unless required by applicable law or agreed to in writing, software
+* distributed under the License is distributed on an "AS IS" BASIS,
+* WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+* See the License for the specific language governing permissions and
+* limitations under the License.
+*/
+
+package com.siemens.oss.omniproperties.validation;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import com.siemens.oss.omniproperties.Initializable;
+import com.siemens.oss.omniproperties.ObjectBuilder;
+import com.siemens.oss.omniproperties.OmniProperties;
+import com.siemens.oss.omniproperties.Validator;
+import com.siemens.oss.omniproperties.exceptions.ValidationException;
+import com.siemens.oss.omniproperties.exceptions.ValidationException.CollectedValidationExceptions;
+
+/**
+ * {@link Validator} which defers validation until reading a config (including
+ * all its includes) completed. The collected objects are then validated in one
+ * batch, optionally in parallel, and all violations are reported together in
+ * a {@link CollectedValidationExceptions}.
+ *
+ * {@link ObjectBuilder}s and {@link Initializable}s are validated right away
+ * as <code>build()</code> and <code>init()</code> rely on a valid state.
+ *
+ * Usage: <code>properties.setValidator(new DeferredValidator(OValValidator.shared()));</code>
+ * The delegate must be thread safe if <code>parallelity</code> is greater than 1.
+ */
+public final class DeferredValidator implements Validator {
+
+	/**
+	 * batches smaller than this are validated sequentially
+	 */
+	public static final int PARALLEL_THRESHOLD = 256;
+
+	private final Validator delegate;
+	private final int parallelity;
+	private final List<Object> pending = Collections.synchronizedList(new ArrayList<Object>());
+	private int depth;
+
+	public DeferredValidator(final Validator delegate) {
+		this(delegate, 1);
+	}
+
+	public DeferredValidator(final Validator delegate, final int parallelity) {
+		if (parallelity < 1) {
+			throw new IllegalArgumentException("parallelity must be at least 1");
+		}
+		this.delegate = delegate;
+		this.parallelity = parallelity;
+	}
+
+	@Override
+	public void validate(final Object obj) {
+		if (depth == 0 || obj instanceof ObjectBuilder || obj instanceof Initializable) {
+			delegate.validate(obj);
+		} else {
+			pending.add(obj);
+		}
+	}
+
+	/**
+	 * Called when {@link OmniProperties} start reading. Reads may be nested
+	 * (includes).
+	 */
+	public void begin() {
+		depth++;
+	}
+
+	/**
+	 * Called when {@link OmniProperties} finished reading. When the outermost
+	 * read ends, all pending objects are validated.
+	 *
+	 * @param completed
+	 *            false if reading failed. The pending objects are discarded
+	 *            then.
+	 * @throws CollectedValidationExceptions
+	 *             if validation of any pending object failed
+	 */
+	public void end(final boolean completed) {
+		depth--;
+		if (depth > 0) {
+			return;
+		}
+		final List<Object> batch = new ArrayList<>(pending);
+		pending.clear();
+		if (completed) {
+			validateAll(batch);
+		}
+	}
+
+	private void validateAll(final List<Object> batch) {
+		final List<ValidationException> failures;
+		if (parallelity == 1 || batch.size() < PARALLEL_THRESHOLD) {
+			failures = validate(batch);
+		} else {
+			failures = validateInParallel(batch);
+		}
+		if (!failures.isEmpty()) {
+			throw new CollectedValidationExceptions(failures);
+		}
+	}
+
+	private List<ValidationException> validate(final List<Object> objects) {
+		final List<ValidationException> failures = new ArrayList<>();
+		for (Object obj : objects) {
+			try {
+				delegate.validate(obj);
+			} catch (ValidationException e) {
+				failures.add(e);
+			}
+		}
+		return failures;
+	}
+
+	private List<ValidationException> validateInParallel(final List<Object> batch) {
+		final ExecutorService executor = Executors.newFixedThreadPool(parallelity);
+		try {
+			final List<Future<List<ValidationException>>> futures = new ArrayList<>();
+			final int chunkSize = (batch.size() + parallelity - 1) / parallelity;
+			for (int start = 0; start < batch.size(); start += chunkSize) {
+				final List<Object> chunk = batch.subList(start, Math.min(batch.size(), start + chunkSize));
+				futures.add(executor.submit(new Callable<List<ValidationException>>() {
+					@Override
+					public List<ValidationException> call() {
+						return validate(chunk);
+					}
+				}));
+			}
+			final List<ValidationException> failures = new ArrayList<>();
+			for (Future<List<ValidationException>> future : futures) {
+				failures.addAll(future.get());
+			}
+			return failures;
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new RuntimeException(e);
+		} catch (ExecutionException e) {
+			if (e.getCause() instanceof RuntimeException) {
+				throw (RuntimeException) e.getCause();
+			}
+			throw new RuntimeException(e.getCause());
+		} finally {
+			executor.shutdown();
+		}
+	}
+}
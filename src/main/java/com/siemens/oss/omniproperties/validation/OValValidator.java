@@ -16,6 +16,8 @@
 
 package com.siemens.oss.omniproperties.validation;
 
+import java.lang.annotation.Annotation;
+import java.lang.reflect.AccessibleObject;
 import java.util.List;
 
 import com.siemens.oss.omniproperties.OmniProperties;
@@ -23,21 +25,56 @@ import com.siemens.oss.omniproperties.Validator;
 import com.siemens.oss.omniproperties.exceptions.ValidationException;
 
 import net.sf.oval.ConstraintViolation;
+import net.sf.oval.configuration.annotation.Constraint;
+import net.sf.oval.configuration.annotation.Constraints;
 
 /**
  * {@link Validator} for {@link OmniProperties} which uses
  * <a href="http://oval.sourceforge.net/">OVal</a> as validation framework. It is the default
  * validator for {@link OmniProperties}.
- * 
+ *
+ * OVal introspects the constraints of a class once per OVal validator. Hence, all
+ * {@link OmniProperties} share one instance (see <code>shared()</code>). Objects of
+ * classes without any OVal annotation are not passed to OVal at all.
+ *
  * @author Markus Michael Geipel
- * 
+ *
  */
 public final class OValValidator implements Validator {
 
-	private final net.sf.oval.Validator validator = new net.sf.oval.Validator();
+	private static final String OVAL_PACKAGE = "net.sf.oval.";
+
+	private static final OValValidator SHARED = new OValValidator();
+
+	private static final ClassValue<Boolean> CONSTRAINED = new ClassValue<Boolean>() {
+		@Override
+		protected Boolean computeValue(Class<?> type) {
+			return Boolean.valueOf(hasConstraints(type));
+		}
+	};
+
+	private final net.sf.oval.Validator validator;
+
+	public OValValidator() {
+		this(new net.sf.oval.Validator());
+	}
+
+	public OValValidator(final net.sf.oval.Validator validator) {
+		this.validator = validator;
+	}
+
+	/**
+	 * @return the validator shared by all {@link OmniProperties}
+	 */
+	public static OValValidator shared() {
+		return SHARED;
+	}
 
 	@Override
 	public void validate(Object obj) {
+		if (!isConstrained(obj.getClass())) {
+			return;
+		}
 		final List<ConstraintViolation> violations = validator.validate(obj);
 		if (!violations.isEmpty()) {
 			throw new ValidationException(obj, violations.toString());
@@ -45,4 +82,49 @@ public final class OValValidator implements Validator {
 
 	}
 
+	/**
+	 * @param type
+	 * @return true if the class, its super classes or interfaces carry OVal
+	 *         annotations
+	 */
+	public static boolean isConstrained(final Class<?> type) {
+		return CONSTRAINED.get(type).booleanValue();
+	}
+
+	private static boolean hasConstraints(final Class<?> type) {
+		if (type == Object.class) {
+			return false;
+		}
+		if (isOValAnnotated(type.getDeclaredAnnotations()) || isOValAnnotated(type.getDeclaredFields())
+				|| isOValAnnotated(type.getDeclaredMethods()) || isOValAnnotated(type.getDeclaredConstructors())) {
+			return true;
+		}
+		for (Class<?> implemented : type.getInterfaces()) {
+			if (isConstrained(implemented)) {
+				return true;
+			}
+		}
+		return type.getSuperclass() != null && isConstrained(type.getSuperclass());
+	}
+
+	private static boolean isOValAnnotated(final AccessibleObject[] members) {
+		for (AccessibleObject member : members) {
+			if (isOValAnnotated(member.getDeclaredAnnotations())) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	private static boolean isOValAnnotated(final Annotation[] annotations) {
+		for (Annotation annotation : annotations) {
+			final Class<? extends Annotation> annotationType = annotation.annotationType();
+			if (annotationType.getName().startsWith(OVAL_PACKAGE) || annotationType.isAnnotationPresent(Constraint.class)
+					|| annotationType.isAnnotationPresent(Constraints.class)) {
+				return true;
+			}
+		}
+		return false;
+	}
+
 }
@@ -0,0 +1,57 @@
+/*
+* Copyright Siemens AG, 2026
+*
+* Licensed under the Apache License, Version 2.0 the "License";
+* you may not use this file except in compliance with the License.
+* You may obtain a copy of the License at
+*
+* http://www.apache.org/licenses/LICENSE-2.0
+*
+* Unless required by applicable law or agreed to in writing, software
+* distributed under the License is distributed on an "AS IS" BASIS,
+* WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+* See the License for the specific language governing permissions and
+* limitations under the License.
+*/
+
+package com.siemens.oss.omniproperties;
+
+import java.io.IOException;
+import java.util.List;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.siemens.oss.omniproperties.AccessStatisticsObserver.Access;
+import com.siemens.oss.omniproperties.AccessStatisticsObserver.KeyStatistics;
+
+public final class AccessStatisticsObserverTest {
+
+	@Test
+	public void testCounts() throws IOException {
+		final AccessStatisticsObserver statistics = new AccessStatisticsObserver();
+		final OmniProperties properties = ObservableOmniProperties.wrap(OmniProperties.create(), statistics);
+		properties.readFromString("hot=1; warm=\"W\"; dead=true;");
+
+		for (int i = 0; i < 10; i++) {
+			properties.getInt("hot");
+		}
+		properties.containsObject("hot", Integer.class);
+		properties.getString("warm");
+		properties.getInt("absent", 7);
+		properties.containsKey("missing");
+
+		final List<KeyStatistics> top = statistics.getTopKeys(2);
+		Assert.assertEquals(2, top.size());
+		Assert.assertEquals("hot", top.get(0).getKey());
+		Assert.assertEquals(10, top.get(0).getCount(Access.GET_INT));
+		Assert.assertEquals(1, top.get(0).getCount(Access.CONTAINS_OBJECT));
+		Assert.assertEquals(11, top.get(0).getTotal());
+		Assert.assertEquals(0, top.get(0).getCount(Access.MISS));
+
+		Assert.assertEquals(1, statistics.getStatistics("absent").getCount(Access.DEFAULT_TAKEN));
+		Assert.assertEquals(1, statistics.getStatistics("missing").getCount(Access.MISS));
+		Assert.assertTrue(statistics.getNeverReadKeys().contains("dead"));
+		Assert.assertFalse(statistics.getNeverReadKeys().contains("warm"));
+	}
+}
@@ -0,0 +1,173 @@
+/*
+* Copyright Siemens AG, 2026
+*
+* Licensed under the Apache License, Version 2.0 the "License";
+* you may not use this file except in compliance with the License.
+* You may obtain a copy of the License at
+*
+* http://www.apache.org/licenses/LICENSE-2.0
+*
+* Unless required by applicable law or agreed to in writing, software
+* distributed under the License is distributed on an "AS IS" BASIS,
+* WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+* See the License for the specific language governing permissions and
+* limitations under the License.
+*/
+
+package com.siemens.oss.omniproperties;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.CountDownLatch;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.siemens.oss.omniproperties.AsyncOmniPropertyObserver.OverflowPolicy;
+
+public final class AsyncOmniPropertyObserverTest {
+
+	private static final class RecordingObserver extends AOmniPropertyObserver {
+		private final List<String> events = new ArrayList<>();
+		private final CountDownLatch released;
+
+		RecordingObserver(final CountDownLatch released) {
+			this.released = released;
+		}
+
+		@Override
+		public void setOmniproperties(OmniProperties properties) {
+			// not needed
+		}
+
+		@Override
+		public void getInt(String key) {
+			await();
+			events.add("getInt " + key);
+		}
+
+		@Override
+		public void putAll(Map<? extends String, ? extends Object> m) {
+			events.add("putAll " + new TreeMap<String, Object>(m));
+		}
+
+		@Override
+		public void readFromStream(InputStream input) {
+			try {
+				events.add("readFromStream " + input.read());
+			} catch (IOException e) {
+				throw new IllegalStateException(e);
+			}
+		}
+
+		@Override
+		public void getString(String key, String def) {
+			events.add("getString " + key + " " + def);
+		}
+
+		private void await() {
+			try {
+				released.await();
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+		}
+	}
+
+	@Test
+	public void testEventsReplayedInOrder() throws IOException {
+		final RecordingObserver recorder = new RecordingObserver(new CountDownLatch(0));
+		try (final AsyncOmniPropertyObserver async = new AsyncOmniPropertyObserver(recorder)) {
+			final OmniProperties properties = ObservableOmniProperties.wrap(OmniProperties.create(), async);
+			properties.readFromString("a=1; b=\"B\";");
+			for (int i = 0; i < 1000; i++) {
+				properties.getInt("a");
+			}
+			properties.getString("c", "C");
+			async.flush();
+			Assert.assertEquals(1001, recorder.events.size());
+			Assert.assertEquals("getInt a", recorder.events.get(0));
+			Assert.assertEquals("getString c C", recorder.events.get(1000));
+			Assert.assertEquals(0, async.getDroppedCount());
+		}
+	}
+
+	@Test
+	public void testDropWhenFull() {
+		final CountDownLatch released = new CountDownLatch(1);
+		final RecordingObserver recorder = new RecordingObserver(released);
+		try (final AsyncOmniPropertyObserver async = new AsyncOmniPropertyObserver(recorder, 4, OverflowPolicy.DROP)) {
+			for (int i = 0; i < 20; i++) {
+				async.getInt("a");
+			}
+			Assert.assertTrue(async.getDroppedCount() >= 15);
+			released.countDown();
+			async.flush();
+			Assert.assertEquals(20 - async.getDroppedCount(), recorder.events.size());
+		}
+	}
+
+	@Test
+	public void testArgumentsReadBeforeReplay() throws IOException {
+		final CountDownLatch released = new CountDownLatch(1);
+		final RecordingObserver recorder = new RecordingObserver(released);
+		try (final AsyncOmniPropertyObserver async = new AsyncOmniPropertyObserver(recorder)) {
+			final OmniProperties properties = ObservableOmniProperties.wrap(OmniProperties.create(), async);
+			// keeps the background thread busy
+			async.getInt("a");
+			final Map<String, Object> map = new HashMap<>();
+			map.put("b", "B");
+			properties.putAll(map);
+			map.put("c", "C");
+			properties.readFromStream(new ByteArrayInputStream("d=1;".getBytes("UTF-8")));
+			released.countDown();
+			async.flush();
+			Assert.assertEquals(Arrays.asList("getInt a", "putAll {b=B}", "readFromStream -1"), recorder.events);
+			Assert.assertEquals(1, properties.getInt("d"));
+		}
+	}
+
+	@Test
+	public void testEventsAfterCloseAreCounted() {
+		final RecordingObserver recorder = new RecordingObserver(new CountDownLatch(0));
+		final AsyncOmniPropertyObserver async = new AsyncOmniPropertyObserver(recorder);
+		async.getString("a", "A");
+		async.close();
+		async.getString("b", "B");
+		async.getInt("c");
+		Assert.assertEquals(1, recorder.events.size());
+		Assert.assertEquals(2, async.getDroppedAfterCloseCount());
+		Assert.assertEquals(0, async.getDroppedCount());
+	}
+
+	@Test
+	public void testIdleThreadParks() throws InterruptedException {
+		final RecordingObserver recorder = new RecordingObserver(new CountDownLatch(0));
+		try (final AsyncOmniPropertyObserver async = new AsyncOmniPropertyObserver(recorder)) {
+			async.getString("a", "A");
+			async.flush();
+			Thread.sleep(200);
+			boolean found = false;
+			for (Thread thread : Thread.getAllStackTraces().keySet()) {
+				if (thread.getName().equals("omniproperties-observer")) {
+					found = true;
+					Assert.assertTrue(thread.isDaemon());
+					Assert.assertEquals(Thread.State.WAITING, thread.getState());
+				}
+			}
+			Assert.assertTrue(found);
+
+			// woken up by the next event
+			async.getString("b", "B");
+			async.flush();
+			Assert.assertEquals(2, recorder.events.size());
+		}
+	}
+}
@@ -0,0 +1,78 @@
+/*
+* Copyright Siemens AG, 2026
+*
+* Licensed under the Apache License, Version 2.0 the "License";
+* you may not use this file except in compliance with the License.
+* You may obtain a copy of the License at
+*
+* http://www.apache.org/licenses/LICENSE-2.0
+*
+* Unless required by applicable law or agreed to in writing, software
+* distributed under the License is distributed on an "AS IS" BASIS,
+* WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+* See the License for the specific language governing permissions and
+* limitations under the License.
+*/
+
+package com.siemens.oss.omniproperties;
+
+import java.io.IOException;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.siemens.oss.omniproperties.AccessStatisticsObserver.Access;
+import com.siemens.oss.omniproperties.exceptions.PropertyNotFoundException;
+
+public final class CachingOmniPropertiesTest {
+
+	@Test
+	public void testCachedReads() throws IOException {
+		final AccessStatisticsObserver statistics = new AccessStatisticsObserver();
+		final CachingOmniProperties properties = CachingOmniProperties.wrap(LockableOmniProperties
+				.wrap(ObservableOmniProperties.wrap(OmniProperties.create(), statistics)));
+		properties.readFromString("a=1; s=\"S\";");
+
+		for (int i = 0; i < 10; i++) {
+			Assert.assertEquals(1, properties.getInt("a"));
+			Assert.assertEquals("S", properties.getString("s"));
+			Assert.assertEquals(5, properties.getInt("b", 5));
+		}
+		Assert.assertEquals(1, statistics.getStatistics("a").getCount(Access.GET_INT));
+		Assert.assertEquals(1, statistics.getStatistics("b").getCount(Access.GET_INT));
+
+		properties.put("a", Integer.valueOf(2));
+		properties.put("b", Integer.valueOf(3));
+		Assert.assertEquals(2, properties.getInt("a"));
+		Assert.assertEquals(3, properties.getInt("b", 5));
+		Assert.assertEquals(2, properties.getLong("a"));
+
+		properties.remove("a");
+		Assert.assertEquals(7, properties.getInt("a", 7));
+		try {
+			properties.getInt("a");
+			Assert.fail("property was removed");
+		} catch (PropertyNotFoundException e) {
+			// expected
+		}
+	}
+
+	@Test
+	public void testObjectReadAsDifferentTypes() throws IOException {
+		final AccessStatisticsObserver statistics = new AccessStatisticsObserver();
+		final CachingOmniProperties properties = CachingOmniProperties.wrap(ObservableOmniProperties.wrap(
+				OmniProperties.create(), statistics));
+		properties.readFromString("s=\"S\";");
+
+		for (int i = 0; i < 10; i++) {
+			Assert.assertEquals("S", properties.getObject("s", Object.class));
+			Assert.assertEquals("S", properties.getObject("s", String.class));
+			Assert.assertEquals("S", properties.getObject("s", CharSequence.class));
+		}
+		Assert.assertEquals(3, statistics.getStatistics("s").getCount(Access.GET_OBJECT));
+
+		properties.put("s", "T");
+		Assert.assertEquals("T", properties.getObject("s", String.class));
+		Assert.assertEquals("T", properties.getObject("s", Object.class));
+	}
+}
@@ -0,0 +1,88 @@
+/*
+* Copyright Siemens AG, 2026
+*
+* Licensed under the Apache License, Version 2.0 the "License";
+* you may not use this file except in compliance with the License.
+* You may obtain a copy of the License at
+*
+* http://www.apache.org/licenses/LICENSE-2.0
+*
+* Unless required by applicable law or agreed to in writing, software
+* distributed under the License is distributed on an "AS IS" BASIS,
+* WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+* See the License for the specific language governing permissions and
+* limitations under the License.
+*/
+
+package com.siemens.oss.omniproperties;
+
+import java.io.IOException;
+import java.text.DateFormat;
+import java.time.Instant;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.siemens.oss.omniproperties.builders.ThreadSafeDateFormat;
+
+public final class DateFormatBuilderTest {
+
+	private static final String CONFIG = "tz = TimeZone('Europe/Berlin');"
+			+ "plain = DateFormat()[dateFormat='yyyy-MM-dd HH:mm', timeZone=tz];"
+			+ "safe = DateFormat()[dateFormat='yyyy-MM-dd HH:mm', timeZone=tz, threadSafe=true];"
+			+ "modern = DateTimeFormat()[dateFormat='yyyy-MM-dd HH:mm', timeZone=tz];";
+
+	@Test
+	public void testSameFormatting() throws IOException {
+		final OmniProperties properties = OmniProperties.create().readFromString(CONFIG);
+		final DateFormat plain = properties.getObject("plain", DateFormat.class);
+		final DateFormat safe = properties.getObject("safe", DateFormat.class);
+		final DateTimeFormatter modern = properties.getObject("modern", DateTimeFormatter.class);
+		Assert.assertTrue(safe instanceof ThreadSafeDateFormat);
+
+		final Date date = new Date(1420113600000L);
+		Assert.assertEquals("2015-01-01 13:00", plain.format(date));
+		Assert.assertEquals(plain.format(date), safe.format(date));
+		Assert.assertEquals(plain.format(date), modern.format(Instant.ofEpochMilli(date.getTime())));
+		Assert.assertEquals(plain.getTimeZone(), safe.getTimeZone());
+	}
+
+	@Test
+	public void testConcurrentFormatting() throws IOException, InterruptedException, ExecutionException {
+		final OmniProperties properties = OmniProperties.create().readFromString(CONFIG);
+		final DateFormat safe = properties.getObject("safe", DateFormat.class);
+		final ExecutorService executor = Executors.newFixedThreadPool(4);
+		try {
+			final List<Future<Boolean>> results = new ArrayList<>();
+			for (int t = 0; t < 4; t++) {
+				final long offset = t * 86400000L * 40;
+				results.add(executor.submit(new Callable<Boolean>() {
+					@Override
+					public Boolean call() throws Exception {
+						for (int i = 0; i < 2000; i++) {
+							final Date date = new Date(1420113600000L + offset + i * 60000L);
+							if (!safe.parse(safe.format(date)).equals(date)) {
+								return Boolean.FALSE;
+							}
+						}
+						return Boolean.TRUE;
+					}
+				}));
+			}
+			for (Future<Boolean> result : results) {
+				Assert.assertTrue(result.get().booleanValue());
+			}
+		} finally {
+			executor.shutdown();
+		}
+	}
+}
@@ -0,0 +1,145 @@
+/*
+* Copyright Siemens AG, 2026
+*
+* Licensed under the Apache License, Version 2.0 the "License";
+* you may not use this file except in compliance with the License.
+* You may obtain a copy of the License at
+*
+* http://www.apache.org/licenses/LICENSE-2.0
+*
+* Unless required by applicable law or agreed to in writing, software
+* distributed under the License is distributed on an "AS IS" BASIS,
+* WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+* See the License for the specific language governing permissions and
+* limitations under the License.
+*/
+
+package com.siemens.oss.omniproperties;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.Charset;
+import java.nio.file.Files;
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.IntStream;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.siemens.oss.omniproperties.builders.DrawSample;
+import com.siemens.oss.omniproperties.util.Reservoir;
+
+public final class DrawSampleTest {
+
+	private static final int DRAWS = 20000;
+
+	@Test
+	public void testArrays() throws IOException {
+		final OmniProperties properties = OmniProperties.create();
+		properties.readFromString("s = {'a', 'b', 'c', 'd', 'e', 'f'};"
+				+ "s1 = DrawSample(s, 3)[seed=42L];"
+				+ "s2 = DrawSample(s, 3)[seed=42L];"
+				+ "i = DrawSample({5, 4, 3, 2, 1}, 2);"
+				+ "all = DrawSample({1.0, 2.0}, 5);");
+		final String[] s1 = (String[]) properties.get("s1");
+		Assert.assertEquals(3, s1.length);
+		Assert.assertArrayEquals(s1, (String[]) properties.get("s2"));
+		final String[] sorted = s1.clone();
+		Arrays.sort(sorted);
+		Assert.assertArrayEquals(sorted, s1);
+
+		final int[] i = (int[]) properties.get("i");
+		Assert.assertEquals(2, i.length);
+		Assert.assertTrue(i[0] > i[1]);
+		Assert.assertArrayEquals(new double[] { 1.0, 2.0 }, (double[]) properties.get("all"), 0.0);
+	}
+
+	@Test
+	public void testIterable() {
+		final LinkedHashSet<Integer> set = new LinkedHashSet<>();
+		for (int i = 0; i < 100; i++) {
+			set.add(i);
+		}
+		final List<?> sample = (List<?>) new DrawSample(set, 10).build();
+		Assert.assertEquals(10, sample.size());
+		Assert.assertTrue(set.containsAll(sample));
+		Assert.assertEquals(10, new LinkedHashSet<>(sample).size());
+	}
+
+	@Test
+	public void testIterableFromConfig() throws IOException {
+		final File file = File.createTempFile("lines", ".txt");
+		file.deleteOnExit();
+		Files.write(file.toPath(), Arrays.asList("a", "b", "c", "d", "e"), Charset.forName("UTF-8"));
+
+		final OmniProperties properties = OmniProperties.create();
+		properties.put("file", file);
+		properties.readFromString("lines = LinesFromFile(file)[charset='UTF-8'];"
+				+ "s = DrawSample(lines, 2)[seed=42L];"
+				+ "set = DrawSample(OrderedSet({'x', 'y', 'z'}), 2);");
+		final List<?> sample = (List<?>) properties.get("s");
+		Assert.assertEquals(2, sample.size());
+		Assert.assertTrue(Arrays.asList("a", "b", "c", "d", "e").containsAll(sample));
+		Assert.assertEquals(2, ((List<?>) properties.get("set")).size());
+	}
+
+	@Test
+	public void testEmptySample() throws IOException {
+		final OmniProperties properties = OmniProperties.create();
+		properties.readFromString("a = DrawSample({1, 2, 3}, 0);");
+		Assert.assertArrayEquals(new int[0], (int[]) properties.get("a"));
+		Assert.assertTrue(((List<?>) new DrawSample(new LinkedHashSet<>(Arrays.asList(1, 2, 3)), 0).build())
+				.isEmpty());
+
+		final Reservoir<String> reservoir = new Reservoir<>(0, new Random(1));
+		reservoir.offer("x");
+		reservoir.offer("y");
+		Assert.assertEquals(2, reservoir.getCount());
+		Assert.assertTrue(reservoir.getSample().isEmpty());
+	}
+
+	@Test
+	public void testIndexesAreUniform() {
+		final Random random = new Random(1);
+		final int[] counts = new int[10];
+		for (int draw = 0; draw < DRAWS; draw++) {
+			for (int index : Reservoir.sampleIndexes(counts.length, 3, random)) {
+				counts[index]++;
+			}
+		}
+		assertUniform(counts, DRAWS * 3 / counts.length);
+	}
+
+	@Test
+	public void testMergedSamplesAreUniform() {
+		final Random random = new Random(1);
+		final int[] counts = new int[10];
+		for (int draw = 0; draw < DRAWS; draw++) {
+			final Reservoir<Integer> first = new Reservoir<>(3, random);
+			final Reservoir<Integer> second = new Reservoir<>(3, random);
+			for (int i = 0; i < counts.length; i++) {
+				(i < 2 ? first : second).offer(i);
+			}
+			final Reservoir<Integer> merged = first.merge(second);
+			Assert.assertEquals(counts.length, merged.getCount());
+			for (int index : merged.getSample()) {
+				counts[index]++;
+			}
+		}
+		assertUniform(counts, DRAWS * 3 / counts.length);
+
+		final List<Integer> parallel = IntStream.range(0, 100000).boxed().parallel()
+				.collect(Reservoir.<Integer> collector(50, 7L));
+		Assert.assertEquals(50, parallel.size());
+		Assert.assertEquals(50, new LinkedHashSet<>(parallel).size());
+	}
+
+	private static void assertUniform(final int[] counts, final int expected) {
+		for (int count : counts) {
+			Assert.assertEquals(expected, count, expected * 0.05);
+		}
+	}
+}
@@ -0,0 +1,75 @@
+/*
+* Copyright Siemens AG, 2026
+*
+* Licensed under the Apache License, Version 2.0 the "License";
+* you may not use this file except in compliance with the License.
+* You may obtain a copy of the License at
+*
+* http://www.apache.org/licenses/LICENSE-2.0
+*
+* Unless required by applicable law or agreed to in writing, software
+* distributed under the License is distributed on an "AS IS" BASIS,
+* WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+* See the License for the specific language governing permissions and
+* limitations under the License.
+*/
+
+package com.siemens.oss.omniproperties;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.stream.Stream;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.siemens.oss.omniproperties.builders.FilesInDir;
+
+public final class FilesInDirTest {
+
+	private static File createTree() throws IOException {
+		final Path root = Files.createTempDirectory("files");
+		Files.createDirectories(root.resolve("sub/deeper"));
+		for (String file : new String[] { "a.csv", "b.txt", "sub/c.csv", "sub/deeper/d.csv" }) {
+			Files.createFile(root.resolve(file));
+		}
+		return root.toFile();
+	}
+
+	private static String[] namesOf(final File[] files) {
+		final String[] names = new String[files.length];
+		for (int i = 0; i < files.length; i++) {
+			names[i] = files[i].getName();
+		}
+		return names;
+	}
+
+	@Test
+	public void testFilters() throws IOException {
+		final OmniProperties properties = OmniProperties.create();
+		properties.put("root", createTree());
+		properties.readFromString("all = FilesInDir(root);"
+				+ "suffix = FilesInDir(root)[suffix='.csv'];"
+				+ "recursive = FilesInDir(root)[glob='**.csv', maxDepth=10];"
+				+ "parallel = FilesInDir(root)[glob='**.csv', maxDepth=10, parallelity=4];"
+				+ "shallow = FilesInDir(root)[regex='.*\\\\.csv', maxDepth=2];");
+
+		Assert.assertArrayEquals(new String[] { "a.csv", "b.txt", "sub" }, namesOf((File[]) properties.get("all")));
+		Assert.assertArrayEquals(new String[] { "a.csv" }, namesOf((File[]) properties.get("suffix")));
+		Assert.assertArrayEquals(new String[] { "a.csv", "c.csv", "d.csv" }, namesOf((File[]) properties.get("recursive")));
+		Assert.assertArrayEquals((File[]) properties.get("recursive"), (File[]) properties.get("parallel"));
+		Assert.assertArrayEquals(new String[] { "a.csv", "c.csv" }, namesOf((File[]) properties.get("shallow")));
+	}
+
+	@Test
+	public void testStream() throws IOException {
+		final FilesInDir filesInDir = new FilesInDir(createTree());
+		filesInDir.setMaxDepth(Integer.MAX_VALUE);
+		filesInDir.setGlob("**.csv");
+		try (final Stream<Path> stream = filesInDir.stream()) {
+			Assert.assertEquals(3, stream.count());
+		}
+	}
+}
@@ -17,12 +17,20 @@
 package com.siemens.oss.omniproperties;
 
 import java.io.IOException;
+import java.util.BitSet;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
 
 import org.junit.Assert;
 import org.junit.Test;
 
 import com.siemens.oss.omniproperties.OmniProperties;
+import com.siemens.oss.omniproperties.builders.Intersection;
 import com.siemens.oss.omniproperties.exceptions.ParseException;
+import com.siemens.oss.omniproperties.util.ArraySets;
 
 /**
  * @author Holger Schoener <holger.schoener@siemens.com>
@@ -89,5 +97,127 @@ public final class IntersectionTest {
                                 "";
 		properties.readFromString(prop);
 	}
-	
+
+	@Test
+	public void testIntersectionKeepsOrderAndDuplicatesOfFirstArray() throws IOException {
+		final OmniProperties properties = OmniProperties.create();
+		properties.readFromString("o1 = Intersection({{5, 1, 3, 1, 0}, {0, 1, 2, 3}, {3, 1, 0, 7}});");
+		Assert.assertArrayEquals(new int[] { 1, 3, 1, 0 }, (int[]) properties.get("o1"));
+	}
+
+	@Test
+	public void testIntersectionOfEachPrimitiveType() throws Exception {
+		final OmniProperties properties = OmniProperties.create();
+		properties.readFromString("l = Intersection({{1L, 2L, 3L}, {3L, 2L}});"
+				+ "d = Intersection({{1.5, 0.0, 3.0}, {3.0, 0.0}});"
+				+ "f = Intersection({{1.5f, 2.5f}, {2.5f}});"
+				+ "b = Intersection({{true, true}, {false}});"
+				+ "by = Intersection({byte{Byte('1'), Byte('2')}, byte{Byte('2')}});");
+		Assert.assertArrayEquals(new long[] { 2L, 3L }, (long[]) properties.get("l"));
+		Assert.assertArrayEquals(new double[] { 0.0, 3.0 }, (double[]) properties.get("d"), 0.0);
+		Assert.assertArrayEquals(new float[] { 2.5f }, (float[]) properties.get("f"), 0.0f);
+		Assert.assertEquals(0, ((boolean[]) properties.get("b")).length);
+		Assert.assertArrayEquals(new byte[] { 2 }, (byte[]) properties.get("by"));
+		Assert.assertArrayEquals(new short[] { 1 },
+				(short[]) new Intersection(new short[][] { { 1, 2 }, { 1 } }).build());
+		Assert.assertArrayEquals(new char[] { 'b' },
+				(char[]) new Intersection(new char[][] { { 'a', 'b' }, { 'b', 'c' } }).build());
+	}
+
+	@Test
+	public void testIntersectionOfLargeArrays() throws Exception {
+		final int size = 200000;
+		final int[] a = new int[size];
+		final int[] b = new int[size];
+		for (int i = 0; i < size; i++) {
+			a[i] = i * 2;
+			b[i] = size * 2 - i * 3;
+		}
+		final int[] intersection = (int[]) new Intersection(new int[][] { a, b }).build();
+		int expected = 0;
+		for (int i = 0; i < size; i++) {
+			if (a[i] <= size * 2 && (size * 2 - a[i]) % 3 == 0 && (size * 2 - a[i]) / 3 < size) {
+				Assert.assertEquals(a[i], intersection[expected++]);
+			}
+		}
+		Assert.assertEquals(expected, intersection.length);
+	}
+
+	@Test
+	public void testDifference() throws IOException {
+		final OmniProperties properties = OmniProperties.create();
+		properties.readFromString("i = Difference({{5, 1, 3, 1, 0}, {0, 3}, {7}});"
+				+ "s = Difference({{'a', 'b', 'c'}, {'b'}});");
+		Assert.assertArrayEquals(new int[] { 5, 1, 1 }, (int[]) properties.get("i"));
+		Assert.assertArrayEquals(new String[] { "a", "c" }, (String[]) properties.get("s"));
+	}
+
+	@Test
+	public void testSymmetricDifference() throws IOException {
+		final OmniProperties properties = OmniProperties.create();
+		properties.readFromString("two = SymmetricDifference({{1, 2, 2, 3}, {3, 4, 4}});"
+				+ "three = SymmetricDifference({{1, 2}, {2, 3}, {3, 4, 1}});");
+		Assert.assertArrayEquals(new int[] { 1, 2, 4 }, (int[]) properties.get("two"));
+		Assert.assertArrayEquals(new int[] { 4 }, (int[]) properties.get("three"));
+	}
+
+	@Test
+	public void testSymmetricDifferenceOfManyArrays() {
+		final Random random = new Random(3);
+		final Object[] arrays = new Object[50];
+		final Map<Integer, Integer> containing = new LinkedHashMap<>();
+		for (int i = 0; i < arrays.length; i++) {
+			final int[] array = new int[random.nextInt(200)];
+			final Set<Integer> distinct = new HashSet<>();
+			for (int j = 0; j < array.length; j++) {
+				array[j] = random.nextInt(300);
+				if (distinct.add(array[j])) {
+					final Integer count = containing.get(array[j]);
+					containing.put(array[j], count == null ? 1 : count + 1);
+				}
+			}
+			arrays[i] = array;
+		}
+		int expectedLength = 0;
+		for (int count : containing.values()) {
+			expectedLength += count % 2;
+		}
+		final int[] expected = new int[expectedLength];
+		int index = 0;
+		for (Map.Entry<Integer, Integer> entry : containing.entrySet()) {
+			if (entry.getValue() % 2 == 1) {
+				expected[index++] = entry.getKey();
+			}
+		}
+		Assert.assertArrayEquals(expected, (int[]) ArraySets.symmetricDifference(arrays));
+	}
+
+	@Test
+	public void testSortedAndBitSetOutput() throws IOException {
+		final OmniProperties properties = OmniProperties.create();
+		properties.readFromString("sorted = Union({{5, 1}, {3, 1}})[output='sorted'];"
+				+ "strings = Intersection({{'b', 'a', 'b'}, {'a', 'b'}})[output='sorted'];"
+				+ "bits = Difference({{5, 1, 64}, {1}})[output='bitset'];");
+		Assert.assertArrayEquals(new int[] { 1, 3, 5 }, (int[]) properties.get("sorted"));
+		Assert.assertArrayEquals(new String[] { "a", "b" }, (String[]) properties.get("strings"));
+		final BitSet bits = (BitSet) properties.get("bits");
+		Assert.assertEquals(2, bits.cardinality());
+		Assert.assertTrue(bits.get(5));
+		Assert.assertTrue(bits.get(64));
+	}
+
+	@Test
+	public void testBitSetOutputOfMaxInt() throws IOException {
+		final OmniProperties properties = OmniProperties.create();
+		properties.readFromString("bits = Union({{2147483647, 0}})[output='bitset'];");
+		final BitSet bits = (BitSet) properties.get("bits");
+		Assert.assertEquals(2, bits.cardinality());
+		Assert.assertTrue(bits.get(Integer.MAX_VALUE));
+		Assert.assertTrue(bits.get(0));
+	}
+
+	@Test(expected = ParseException.class)
+	public void testBitSetOutputOfDoubles() throws IOException {
+		OmniProperties.create().readFromString("bits = Union({{0.5}})[output='bitset'];");
+	}
 }
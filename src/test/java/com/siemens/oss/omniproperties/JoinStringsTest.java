@@ -0,0 +1,99 @@
+/*
+* Copyright Siemens AG, 2026
+*
+* Licensed under the Apache License, Version 2.0 the "License";
+* you may not use this file except in compliance with the License.
+* You may obtain a copy of the License at
+*
+* http://www.apache.org/licenses/LICENSE-2.0
+*
+* Unless required by applicable law or agreed to in writing, software
+* distributed under the License is distributed on an "AS IS" BASIS,
+* WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+* See the License for the specific language governing permissions and
+* limitations under the License.
+*/
+
+package com.siemens.oss.omniproperties;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.StringWriter;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Arrays;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.siemens.oss.omniproperties.builders.JoinStrings;
+import com.siemens.oss.omniproperties.builders.JoinStringsToFile;
+import com.siemens.oss.omniproperties.builders.ModifyStringArray;
+import com.siemens.oss.omniproperties.exceptions.ValidationException;
+import com.siemens.oss.omniproperties.validation.OValValidator;
+
+public final class JoinStringsTest {
+
+	@Test
+	public void testJoin() throws IOException {
+		final OmniProperties properties = OmniProperties.create();
+		properties.readFromString("plain = JoinStrings({'a', 'b', 'c'}, ', ');"
+				+ "quoted = JoinStrings({'a', 'say \"hi\"'}, ',', '\"', '\\\\');"
+				+ "unquoted = JoinStrings({'ab', 'c'}, ',', '', '\\\\');"
+				+ "modified = ModifyStringArray({'a', 'b'}, '<', '>');");
+		Assert.assertEquals("a, b, c", properties.getString("plain"));
+		Assert.assertEquals("\"a\",\"say \\\"hi\\\"\"", properties.getString("quoted"));
+		Assert.assertEquals("ab,c", properties.getString("unquoted"));
+		Assert.assertArrayEquals(new String[] { "<a>", "<b>" }, properties.getObject("modified", String[].class));
+	}
+
+	@Test
+	public void testStreaming() throws Exception {
+		final String[] hosts = new String[20000];
+		for (int i = 0; i < hosts.length; i++) {
+			hosts[i] = "host" + i;
+		}
+		final String joined = new JoinStrings(hosts, ";").build();
+		final StringWriter writer = new StringWriter();
+		new JoinStrings(hosts, ";").writeTo(writer);
+		Assert.assertEquals(joined, writer.toString());
+		Assert.assertTrue(joined.startsWith("host0;host1;"));
+
+		final StringWriter modified = new StringWriter();
+		new ModifyStringArray(new String[] { "a", "b" }, "[", "]").writeTo(modified, " ");
+		Assert.assertEquals("[a] [b]", modified.toString());
+
+		final File file = File.createTempFile("joined", ".txt");
+		file.deleteOnExit();
+		final OmniProperties properties = OmniProperties.create();
+		properties.put("hosts", hosts);
+		properties.put("out", file);
+		properties.readFromString("written = JoinStringsToFile(hosts, ';', out)[charset='UTF-8'];");
+		Assert.assertEquals(file, properties.get("written"));
+		Assert.assertEquals(joined, new String(Files.readAllBytes(file.toPath()), StandardCharsets.UTF_8));
+	}
+
+	@Test
+	public void testJoinToFileIsValidated() throws IOException {
+		final File file = File.createTempFile("joined", ".txt");
+		file.deleteOnExit();
+		try {
+			OValValidator.shared().validate(new JoinStringsToFile(new String[0], ";", file));
+			Assert.fail("empty strings must be rejected");
+		} catch (ValidationException e) {
+			// expected
+		}
+		try {
+			OValValidator.shared().validate(new JoinStringsToFile(Arrays.asList("a"), null, "", "", file));
+			Assert.fail("a missing delimiter must be rejected");
+		} catch (ValidationException e) {
+			// expected
+		}
+
+		final OmniProperties properties = OmniProperties.create();
+		properties.put("out", file);
+		properties.put("list", Arrays.asList("a", "b"));
+		properties.readFromString("written = JoinStringsToFile(list, ',', '\"', '\\\\', out);");
+		Assert.assertEquals("\"a\",\"b\"", new String(Files.readAllBytes(file.toPath()), StandardCharsets.UTF_8));
+	}
+}
@@ -0,0 +1,78 @@
+/*
+* Copyright Siemens AG, 2026
+*
+* Licensed under the Apache License, Version 2.0 the "License";
+* you may not use this file except in compliance with the License.
+* You may obtain a copy of the License at
+*
+* http://www.apache.org/licenses/LICENSE-2.0
+*
+* Unless required by applicable law or agreed to in writing, software
+* distributed under the License is distributed on an "AS IS" BASIS,
+* WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+* See the License for the specific language governing permissions and
+* limitations under the License.
+*/
+
+package com.siemens.oss.omniproperties;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.siemens.oss.omniproperties.NotifyingOmniProperties.Subscription;
+
+public final class NotifyingOmniPropertiesTest {
+
+	private static final class RecordingListener implements OmniPropertyListener {
+		private final List<Set<String>> notifications = new ArrayList<>();
+
+		@Override
+		public void propertiesChanged(OmniProperties properties, Set<String> keys) {
+			notifications.add(keys);
+		}
+	}
+
+	@Test
+	public void testPrefixAndExactSubscriptions() throws IOException {
+		final NotifyingOmniProperties properties = NotifyingOmniProperties.wrap(OmniProperties.create());
+		final RecordingListener pool = new RecordingListener();
+		final RecordingListener size = new RecordingListener();
+		properties.subscribePrefix("db.pool", pool);
+		final Subscription sizeSubscription = properties.subscribe("db.pool.size", size);
+
+		properties.readFromString("db.pool.size=10; db.pool.timeout=3; db.poolSize=1; other=2;");
+		Assert.assertEquals(1, pool.notifications.size());
+		Assert.assertEquals("[db.pool.size, db.pool.timeout]", pool.notifications.get(0).toString());
+		Assert.assertEquals("[db.pool.size]", size.notifications.get(0).toString());
+
+		properties.readFromString("db.pool.size=10; db.pool.timeout=4;");
+		Assert.assertEquals("[db.pool.timeout]", pool.notifications.get(1).toString());
+		Assert.assertEquals(1, size.notifications.size());
+
+		sizeSubscription.close();
+		properties.put("db.pool.size", Integer.valueOf(20));
+		properties.remove("db.pool");
+		Assert.assertEquals("[db.pool.size]", pool.notifications.get(2).toString());
+		Assert.assertEquals(3, pool.notifications.size());
+		Assert.assertEquals(1, size.notifications.size());
+	}
+
+	@Test
+	public void testReloadedArraysAreUnchanged() throws IOException {
+		final NotifyingOmniProperties properties = NotifyingOmniProperties.wrap(OmniProperties.create());
+		final RecordingListener listener = new RecordingListener();
+		properties.subscribePrefix("a", listener);
+
+		properties.readFromString("a.ints={1, 2, 3}; a.names={'x', 'y'};");
+		properties.readFromString("a.ints={1, 2, 3}; a.names={'x', 'y'};");
+		Assert.assertEquals(1, listener.notifications.size());
+
+		properties.readFromString("a.ints={1, 2, 4}; a.names={'x', 'y'};");
+		Assert.assertEquals("[a.ints]", listener.notifications.get(1).toString());
+	}
+}
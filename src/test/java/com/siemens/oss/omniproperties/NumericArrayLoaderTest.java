@@ -0,0 +1,115 @@
+/*
+* Copyright Siemens AG, 2026
+*
+* Licensed under the Apache License, Version 2.0 the "License";
+* you may not use this file except in compliance with the License.
+* You may obtain a copy of the License at
+*
+* http://www.apache.org/licenses/LICENSE-2.0
+*
+* Unless required by applicable law or agreed to in writing, software
+* distributed under the License is distributed on an "AS IS" BASIS,
+* WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+* See the License for the specific language governing permissions and
+* limitations under the License.
+*/
+
+package com.siemens.oss.omniproperties;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.DoubleBuffer;
+import java.nio.LongBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.siemens.oss.omniproperties.exceptions.ParseException;
+
+public final class NumericArrayLoaderTest {
+
+	private static File tempFile() throws IOException {
+		final File file = File.createTempFile("table", ".bin");
+		file.deleteOnExit();
+		return file;
+	}
+
+	@Test
+	public void testBinary() throws IOException {
+		final double[] doubles = new double[1000000];
+		final File bigEndian = tempFile();
+		try (final DataOutputStream out = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(bigEndian)))) {
+			for (int i = 0; i < doubles.length; i++) {
+				doubles[i] = i * 0.5;
+				out.writeDouble(doubles[i]);
+			}
+		}
+		final File littleEndian = tempFile();
+		Files.write(littleEndian.toPath(), ByteBuffer.allocate(12).order(ByteOrder.LITTLE_ENDIAN).putInt(1).putInt(-2)
+				.putInt(Integer.MAX_VALUE).array());
+
+		final OmniProperties properties = OmniProperties.create();
+		properties.put("big", bigEndian);
+		properties.put("little", littleEndian);
+		properties.readFromString("d = ArrayFromBinaryFile(big);"
+				+ "i = ArrayFromBinaryFile(little)[type='int', byteOrder='little'];");
+		Assert.assertArrayEquals(doubles, (double[]) properties.get("d"), 0.0);
+		Assert.assertArrayEquals(new int[] { 1, -2, Integer.MAX_VALUE }, (int[]) properties.get("i"));
+	}
+
+	@Test
+	public void testMapped() throws IOException {
+		final File file = tempFile();
+		final ByteBuffer bytes = ByteBuffer.allocate(8 * 100);
+		for (int i = 0; i < 100; i++) {
+			bytes.putDouble(i * 0.5);
+		}
+		Files.write(file.toPath(), bytes.array());
+
+		final OmniProperties properties = OmniProperties.create();
+		properties.put("file", file);
+		properties.readFromString("table = MappedArray(file);"
+				+ "window = MappedArray(file)[offset=10L, length=5L];"
+				+ "x = SelectArrayItemByIndex(table, 42);"
+				+ "longs = MappedArray(file)[type='long'];");
+		final DoubleBuffer table = properties.getObject("table", DoubleBuffer.class);
+		Assert.assertTrue(table.isDirect());
+		Assert.assertTrue(table.isReadOnly());
+		Assert.assertEquals(100, table.capacity());
+		Assert.assertEquals(49.5, table.get(99), 0.0);
+		Assert.assertEquals(21.0, properties.getDouble("x"), 0.0);
+
+		final DoubleBuffer window = properties.getObject("window", DoubleBuffer.class);
+		Assert.assertEquals(5, window.capacity());
+		Assert.assertEquals(5.0, window.get(0), 0.0);
+		Assert.assertEquals(Double.doubleToLongBits(1.0), properties.getObject("longs", LongBuffer.class).get(2));
+	}
+
+	@Test(expected = ParseException.class)
+	public void testBinarySizeMismatch() throws IOException {
+		final File file = tempFile();
+		Files.write(file.toPath(), new byte[5]);
+		final OmniProperties properties = OmniProperties.create();
+		properties.put("file", file);
+		properties.readFromString("i = ArrayFromBinaryFile(file)[type='int'];");
+	}
+
+	@Test
+	public void testCsv() throws IOException {
+		final File file = tempFile();
+		Files.write(file.toPath(), "id;weight\n1; 0.5\n\n2;1e3\n-3 ;-1.25\n".getBytes(StandardCharsets.UTF_8));
+		final OmniProperties properties = OmniProperties.create();
+		properties.put("file", file);
+		properties.readFromString("ids = ArrayFromCsv(file)[type='int', delimiter=';', skipLines=1];"
+				+ "weights = ArrayFromCsv(file)[column=1, delimiter=';', skipLines=1];");
+		Assert.assertArrayEquals(new int[] { 1, 2, -3 }, (int[]) properties.get("ids"));
+		Assert.assertArrayEquals(new double[] { 0.5, 1000.0, -1.25 }, (double[]) properties.get("weights"), 0.0);
+	}
+}
@@ -0,0 +1,70 @@
+/*
+* Copyright Siemens AG, 2026
+*
+* Licensed under the Apache License, Version 2.0 the "License";
+* you may not use this file except in compliance with the License.
+* You may obtain a copy of the License at
+*
+* http://www.apache.org/licenses/LICENSE-2.0
+*
+* Unless required by applicable law or agreed to in writing, software
+* distributed under the License is distributed on an "AS IS" BASIS,
+* WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+* See the License for the specific language governing permissions and
+* limitations under the License.
+*/
+
+package com.siemens.oss.omniproperties;
+
+import java.io.File;
+import java.io.IOException;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.siemens.oss.omniproperties.builders.DateFormatBuilder;
+import com.siemens.oss.omniproperties.exceptions.ParseException;
+import com.siemens.oss.omniproperties.exceptions.ValidationException;
+import com.siemens.oss.omniproperties.exceptions.ValidationException.CollectedValidationExceptions;
+import com.siemens.oss.omniproperties.run.ParallelRunnable;
+import com.siemens.oss.omniproperties.validation.DeferredValidator;
+import com.siemens.oss.omniproperties.validation.OValValidator;
+
+public final class OValValidatorTest {
+
+	@Test
+	public void testConstrainedClasses() {
+		Assert.assertTrue(OValValidator.isConstrained(Bean.class));
+		Assert.assertTrue(OValValidator.isConstrained(DateFormatBuilder.class));
+		Assert.assertTrue(OValValidator.isConstrained(ParallelRunnable.class));
+		Assert.assertFalse(OValValidator.isConstrained(File.class));
+		Assert.assertFalse(OValValidator.isConstrained(String.class));
+	}
+
+	@Test(expected = ValidationException.class)
+	public void testSharedValidator() {
+		Assert.assertSame(OValValidator.shared(), OmniProperties.create().getValidator());
+		OValValidator.shared().validate(new Bean());
+	}
+
+	@Test
+	public void testDeferredValidation() throws IOException {
+		final OmniProperties properties = OmniProperties.create();
+		properties.setValidator(new DeferredValidator(OValValidator.shared()));
+		try {
+			properties.readFromString("B1 = com.siemens.oss.omniproperties.Bean()[b = \"B\"];"
+					+ "B2 = com.siemens.oss.omniproperties.Bean()[a = \"A\"];"
+					+ "B3 = com.siemens.oss.omniproperties.Bean()[c = \"C\"];");
+			Assert.fail("validation should fail");
+		} catch (ParseException e) {
+			Throwable cause = e;
+			while (!(cause instanceof CollectedValidationExceptions)) {
+				cause = cause.getCause();
+			}
+			Assert.assertEquals(2, ((CollectedValidationExceptions) cause).getExceptions().size());
+		}
+
+		properties.readFromString("B4 = com.siemens.oss.omniproperties.Bean()[a = \"A\"];");
+		Assert.assertEquals("A", properties.getObject("B4", Bean.class).getA());
+	}
+}
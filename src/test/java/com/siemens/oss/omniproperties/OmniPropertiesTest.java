@@ -20,7 +20,11 @@ import java.io.File;
 import java.io.IOException;
 import java.io.UnsupportedEncodingException;
 import java.net.InetSocketAddress;
+import java.nio.charset.Charset;
+import java.nio.file.Files;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ExecutionException;
 
 import org.antlr.runtime.RecognitionException;
 import org.junit.Assert;
@@ -29,6 +33,8 @@ import org.junit.Test;
 import com.siemens.oss.omniproperties.OmniProperties;
 import com.siemens.oss.omniproperties.exceptions.ParseException;
 import com.siemens.oss.omniproperties.exceptions.WrongClassException;
+import com.siemens.oss.omniproperties.util.Profiler;
+import com.siemens.oss.omniproperties.util.ReflectionUtil;
 
 /**
  * @author Markus Geipel
@@ -186,7 +192,29 @@ public final class OmniPropertiesTest {
 		properties.readFromString("a = {'a'} ^ {'b'};");
 		Assert.assertArrayEquals(new String[]{"a","b"}, properties.getObject("a", String[].class));
 
-		
+		properties.readFromString("a = {1.0, 2.0} ^ {} ^ {3.0} ^ {1.0};");
+		Assert.assertArrayEquals(new double[]{1.0, 2.0, 3.0, 1.0}, properties.getObject("a", double[].class), 0.0);
+
+		// the result type does not depend on which arrays are bulk copied
+		properties.put("boxed", new Integer[] { 1, 2 });
+		properties.put("files", new File[] { new File("x") });
+		properties.put("objects", new Object[] { "o" });
+		properties.readFromString("a = boxed ^ boxed; b = {1} ^ boxed; c = files ^ files; d = objects ^ files;");
+		Assert.assertArrayEquals(new int[] { 1, 2, 1, 2 }, properties.getObject("a", int[].class));
+		Assert.assertArrayEquals(new int[] { 1, 1, 2 }, properties.getObject("b", int[].class));
+		Assert.assertArrayEquals(new File[] { new File("x"), new File("x") }, properties.getObject("c", File[].class));
+		Assert.assertArrayEquals(new Object[] { "o", new File("x") }, properties.getObject("d", Object[].class));
+	}
+
+	@Test
+	public void testUnion() throws IOException {
+		final OmniProperties properties = OmniProperties.create();
+		properties.readFromString("i = Union({{3, 1, 3}, {2, 1}, {4}});"
+				+ "d = Union({{0.5, 1.5}, {1.5, 2.5}});"
+				+ "s = Union({{'b', 'a'}, {'a', 'c'}});");
+		Assert.assertArrayEquals(new int[] { 3, 1, 2, 4 }, properties.getObject("i", int[].class));
+		Assert.assertArrayEquals(new double[] { 0.5, 1.5, 2.5 }, properties.getObject("d", double[].class), 0.0);
+		Assert.assertArrayEquals(new String[] { "b", "a", "c" }, properties.getObject("s", String[].class));
 	}
 
 	@Test
@@ -310,4 +338,80 @@ public final class OmniPropertiesTest {
 		Assert.assertArrayEquals(new String[] { "@51a", "@51b", "@51c", "@51d" }, properties.getObject("inputs", String[].class));
 	}
 
+	@Test
+	public void testInterning() throws IOException {
+		ReflectionUtil.setInterning(true);
+		try {
+			final OmniProperties properties = OmniProperties.create();
+			properties.readFromString("a = File('x'); b = File('x'); c = File('y'); d = File('x')[];"
+					+ "p1 = Path('q'); p2 = Path('q');"
+					+ "bean1 = java.util.ArrayList(2); bean2 = java.util.ArrayList(2);");
+			Assert.assertSame(properties.get("a"), properties.get("b"));
+			Assert.assertSame(properties.get("a"), properties.get("d"));
+			Assert.assertNotSame(properties.get("a"), properties.get("c"));
+			Assert.assertSame(properties.get("p1"), properties.get("p2"));
+			Assert.assertNotSame(properties.get("bean1"), properties.get("bean2"));
+
+			final OmniProperties other = OmniProperties.create();
+			other.readFromString("a = File('x');");
+			Assert.assertNotSame(properties.get("a"), other.get("a"));
+			other.readFromString("b = File('x');");
+			Assert.assertSame(other.get("a"), other.get("b"));
+
+			final OmniProperties parallel = OmniProperties.create();
+			parallel.setParallelity(4);
+			parallel.readFromString("a = File('x');");
+			parallel.readFromString("b = File('x'); c = File('x');");
+			Assert.assertSame(parallel.get("a"), parallel.get("b"));
+			Assert.assertSame(parallel.get("a"), parallel.get("c"));
+
+			final int[] array = { 1, 2 };
+			final Object key = ReflectionUtil.internKey("File", new Object[] { array, new int[][] { array } });
+			array[0] = 3;
+			final Object equalKey = ReflectionUtil.internKey("File", new Object[] { new int[] { 1, 2 },
+					new int[][] { { 1, 2 } } });
+			Assert.assertEquals(key, equalKey);
+			Assert.assertEquals(key.hashCode(), equalKey.hashCode());
+		} finally {
+			ReflectionUtil.setInterning(false);
+		}
+	}
+
+	@Test
+	public void testPrewarm() throws InterruptedException, ExecutionException {
+		ReflectionUtil.prewarm(2).get();
+		Assert.assertEquals("java.io.File", ReflectionUtil.resolveShortcut("File"));
+		Assert.assertSame(File.class, ReflectionUtil.classForName("File"));
+		Assert.assertSame(File.class, ReflectionUtil.classForName("java.io.File"));
+	}
+
+	@Test
+	public void testProfiler() throws IOException {
+		final File report = File.createTempFile("profile", ".txt");
+		final File collapsed = new File(report.getPath() + ".collapsed");
+		report.deleteOnExit();
+		collapsed.deleteOnExit();
+
+		Profiler.start();
+		try {
+			OmniProperties.create().readFromString("f = File('a'); g = File('b');");
+		} finally {
+			Profiler.stop().write(report);
+		}
+
+		final String text = new String(Files.readAllBytes(report.toPath()), Charset.forName("UTF-8"));
+		Assert.assertTrue(text.startsWith(String.format("%12s %12s %8s  %s", "total ms", "self ms", "calls", "section")));
+		for (String section : new String[] { "lex", "parse", "evaluate", "new File", "construct", "build" }) {
+			Assert.assertTrue(section, text.contains("  " + section + System.lineSeparator()));
+		}
+		Assert.assertTrue(text, text.matches("(?s).* 2  new File\\R.*"));
+
+		final List<String> stacks = Files.readAllLines(collapsed.toPath(), Charset.forName("UTF-8"));
+		boolean construct = false;
+		for (String stack : stacks) {
+			Assert.assertTrue(stack, stack.matches("[^;]+(;[^;]+)* \\d+"));
+			construct |= stack.matches("(.*;)?new File;construct \\d+");
+		}
+		Assert.assertTrue(stacks.toString(), construct);
+	}
 }
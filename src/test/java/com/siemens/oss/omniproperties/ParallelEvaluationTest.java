@@ -0,0 +1,91 @@
+/*
+* Copyright Siemens AG, 2026
+*
+* Licensed under the Apache License, Version 2.0 the "License";
+* you may not use this file except in compliance with the License.
+* You may obtain a copy of the License at
+*
+* http://www.apache.org/licenses/LICENSE-2.0
+*
+* Unless required by applicable law or agreed to in writing, software
+* distributed under the License is distributed on an "AS IS" BASIS,
+* WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+* See the License for the specific language governing permissions and
+* limitations under the License.
+*/
+
+package com.siemens.oss.omniproperties;
+
+import java.io.File;
+import java.io.IOException;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.siemens.oss.omniproperties.exceptions.ParseException;
+
+public final class ParallelEvaluationTest {
+
+	private static final String CONFIG = "base = 'dir';"
+			+ "f1 = File(base);"
+			+ "f2 ~ File('other');"
+			+ "f2 = File(base, 'x');"
+			+ "f3 ~ File('ignored');"
+			+ "f3 ~ File('first');"
+			+ "base = 'changed';"
+			+ "f4 = File(base);"
+			+ "names = {f1, f2, f3, f4} ^ {File(base, 'y')};"
+			+ "list = ArrayToList(names);"
+			+ "include File('src/test/resources/withComments.omniprop');"
+			+ "after = prefix ^ '!';"
+			+ "f1 = File(after);";
+
+	private static OmniProperties read(final int parallelity, final String config) throws IOException {
+		final OmniProperties properties = OmniProperties.create();
+		properties.setParallelity(parallelity);
+		properties.put("f3", new File("preset"));
+		properties.readFromString(config);
+		return properties;
+	}
+
+	@Test
+	public void testSameResultAsSequential() throws IOException {
+		final OmniProperties sequential = read(1, CONFIG);
+		for (int i = 0; i < 20; i++) {
+			final OmniProperties parallel = read(4, CONFIG);
+			Assert.assertEquals(sequential.keySet(), parallel.keySet());
+			for (String key : sequential.keySet()) {
+				if (sequential.get(key) instanceof Object[]) {
+					Assert.assertArrayEquals(key, (Object[]) sequential.get(key), (Object[]) parallel.get(key));
+				} else if (!key.equals(OmniProperties.SELF)) {
+					Assert.assertEquals(key, sequential.get(key), parallel.get(key));
+				}
+			}
+		}
+		Assert.assertEquals(new File("preset"), sequential.get("f3"));
+	}
+
+	@Test
+	public void testWrappersForwardParallelity() throws IOException {
+		final OmniProperties inner = OmniProperties.create();
+		final OmniProperties[] wrappers = { LockableOmniProperties.wrap(inner), CachingOmniProperties.wrap(inner),
+				NotifyingOmniProperties.wrap(inner), ObservableOmniProperties.wrap(inner, new LoggingOverserver()) };
+		for (int i = 0; i < wrappers.length; i++) {
+			wrappers[i].setParallelity(i + 2);
+			Assert.assertEquals(i + 2, inner.getParallelity());
+			Assert.assertEquals(i + 2, wrappers[i].getParallelity());
+		}
+
+		final OmniProperties sequential = read(1, CONFIG);
+		final OmniProperties wrapper = CachingOmniProperties.wrap(OmniProperties.create());
+		wrapper.setParallelity(4);
+		wrapper.put("f3", new File("preset"));
+		wrapper.readFromString(CONFIG);
+		Assert.assertArrayEquals((Object[]) sequential.get("names"), (Object[]) wrapper.get("names"));
+	}
+
+	@Test(expected = ParseException.class)
+	public void testUndefinedVariable() throws IOException {
+		read(4, "a = File('a'); b = File(c); c = 'c';");
+	}
+}
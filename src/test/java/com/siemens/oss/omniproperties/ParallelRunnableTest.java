@@ -0,0 +1,184 @@
+/*
+* Copyright Siemens AG, 2026
+*
+* Licensed under the Apache License, Version 2.0 the "License";
+* you may not use this file except in compliance with the License.
+* You may obtain a copy of the License at
+*
+* http://www.apache.org/licenses/LICENSE-2.0
+*
+* Unless required by applicable law or agreed to in writing, software
+* distributed under the License is distributed on an "AS IS" BASIS,
+* WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+* See the License for the specific language governing permissions and
+* limitations under the License.
+*/
+
+package com.siemens.oss.omniproperties;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.Charset;
+import java.nio.file.Files;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.siemens.oss.omniproperties.run.GenericMain;
+import com.siemens.oss.omniproperties.run.Shard;
+import com.siemens.oss.omniproperties.run.SweepJournal;
+
+public final class ParallelRunnableTest {
+
+	private static final Charset UTF8 = Charset.forName("UTF-8");
+
+	private static File writeTemp(final String prefix, final String content) throws IOException {
+		final File file = File.createTempFile(prefix, ".tmp");
+		file.deleteOnExit();
+		Files.write(file.toPath(), content.getBytes(UTF8));
+		return file;
+	}
+
+	@Test
+	public void testJournalResume() throws IOException {
+		final File runOprops = writeTemp("run", "run = SequentialRun(java.lang.Runnable{});");
+		// 'b' completed, 'c' was cut off while being written
+		final File journal = writeTemp("journal", "b\nc");
+
+		final OmniProperties properties = OmniProperties.create();
+		properties.put("runOprops", runOprops);
+		properties.put("journal", journal);
+		properties.readFromString("run = ParallelRun()[runOprops=runOprops, items={'a', 'b', 'c'}, itemName='item', journal=journal, parallelity=2];");
+		properties.getObject("run", Runnable.class).run();
+
+		final List<String> lines = Files.readAllLines(journal.toPath(), UTF8);
+		Assert.assertEquals(3, lines.size());
+		Assert.assertEquals("b", lines.get(0));
+		Assert.assertTrue(lines.containsAll(Arrays.asList("a", "b", "c")));
+	}
+
+	@Test
+	public void testShards() throws IOException {
+		final File runOprops = writeTemp("run", "run = SequentialRun(java.lang.Runnable{});");
+		final File journal = writeTemp("journal", "");
+		final List<String> items = Arrays.asList("a", "b", "c", "d", "e");
+
+		for (int i = 0; i < 2; i++) {
+			final OmniProperties properties = OmniProperties.create();
+			properties.put("runOprops", runOprops);
+			properties.put("journal", journal);
+			properties.readFromString("run = ParallelRun()[runOprops=runOprops, items={'a', 'b', 'c', 'd', 'e'}, itemName='item', journal=journal, shard='"
+					+ i + "/2'];");
+			properties.getObject("run", Runnable.class).run();
+		}
+
+		final Shard shard0 = new Shard(0, 2);
+		Assert.assertEquals(Arrays.asList("a", "c", "e"), Files.readAllLines(shard0.journalOf(journal).toPath(), UTF8));
+		Assert.assertEquals(0, journal.length());
+
+		SweepJournal.merge(journal, shard0.journalOf(journal), new Shard(1, 2).journalOf(journal));
+		Assert.assertTrue(Files.readAllLines(journal.toPath(), UTF8).containsAll(items));
+		Assert.assertFalse(shard0.journalOf(journal).exists());
+	}
+
+	@Test
+	public void testShardCoordinator() throws IOException {
+		final File runOprops = writeTemp("run", "run = SequentialRun(java.lang.Runnable{});");
+		final File journal = writeTemp("journal", "a\n");
+		final File config = writeTemp("sweep", "run = ParallelRun()[runOprops=File(runOprops), items={'a', 'b', 'c', 'd'}, itemName='item', journal=File(journal)];");
+
+		new GenericMain(new String[] { "-config", config.getPath(), "-shards", "3", "-args",
+				"runOprops=" + runOprops.getPath(), "journal=" + journal.getPath() }).run();
+
+		final List<String> lines = Files.readAllLines(journal.toPath(), UTF8);
+		Assert.assertEquals(4, lines.size());
+		Assert.assertTrue(lines.containsAll(Arrays.asList("a", "b", "c", "d")));
+	}
+
+	@Test
+	public void testShardsRequireParallelRun() throws IOException {
+		final File config = writeTemp("sweep", "run = SequentialRun(java.lang.Runnable{});");
+		try {
+			new GenericMain(new String[] { "-config", config.getPath(), "-shards", "2" }).run();
+			Assert.fail("-shards must fail for a run which is not a ParallelRun");
+		} catch (IllegalArgumentException e) {
+			Assert.assertTrue(e.getMessage(), e.getMessage().contains("ParallelRun"));
+		}
+	}
+
+	@Test
+	public void testShardDoesNotApplyToNestedSweeps() throws IOException {
+		final File leaf = writeTemp("leaf", "run = SequentialRun(java.lang.Runnable{});");
+		final File inner = writeTemp("inner", "run = ParallelRun()[runOprops=File('" + leaf.getPath()
+				+ "'), items={'x', 'y', 'z'}, itemName='sub', journal=journal];");
+		final File first = writeTemp("journal", "");
+		final File second = writeTemp("journal", "");
+		final File config = writeTemp("sweep", "run = ParallelRun()[runOprops=File('" + inner.getPath() + "'), items={File('"
+				+ first.getPath() + "'), File('" + second.getPath() + "')}, itemName='journal'];");
+
+		new GenericMain(new String[] { "-config", config.getPath(), "-shard", "0/2" }).run();
+
+		final List<String> lines = Files.readAllLines(first.toPath(), UTF8);
+		Assert.assertEquals(3, lines.size());
+		Assert.assertTrue(lines.containsAll(Arrays.asList("x", "y", "z")));
+		Assert.assertEquals(0, second.length());
+	}
+
+	@Test
+	public void testMetrics() throws IOException {
+		final File runOprops = writeTemp("run", "run = SequentialRun(java.lang.Runnable{});");
+		final File json = File.createTempFile("metrics", ".json");
+		final File csv = File.createTempFile("metrics", ".csv");
+		json.deleteOnExit();
+		csv.deleteOnExit();
+
+		final OmniProperties properties = OmniProperties.create();
+		properties.put("runOprops", runOprops);
+		properties.put("json", json);
+		properties.put("csv", csv);
+		properties.readFromString("run = ParallelRun()[runOprops=runOprops, items={'1', '2', '3'}, itemName='item', metrics=json];"
+				+ "seq = SequentialRun({run, run})[metrics=csv];");
+		properties.getObject("seq", Runnable.class).run();
+
+		final String summary = new String(Files.readAllBytes(json.toPath()), UTF8);
+		Assert.assertTrue(summary.contains("\"tasks\": 3,"));
+		Assert.assertTrue(summary.contains("\"wallMsP99\""));
+		final List<String> lines = Files.readAllLines(csv.toPath(), UTF8);
+		Assert.assertEquals(9, lines.size());
+		Assert.assertTrue(lines.get(3).startsWith("#mean,"));
+		Assert.assertTrue(lines.get(6).startsWith("#p99,"));
+		Assert.assertEquals("#failed,,,,0", lines.get(8));
+	}
+
+	@Test
+	public void testMetricsOfFailedRun() throws IOException {
+		final File runOprops = writeTemp("run", "run = ShellExecutor({item})[failOnError=true];");
+		final File json = File.createTempFile("metrics", ".json");
+		final File csv = File.createTempFile("metrics", ".csv");
+		json.deleteOnExit();
+		csv.deleteOnExit();
+
+		final OmniProperties properties = OmniProperties.create();
+		properties.put("runOprops", runOprops);
+		properties.put("json", json);
+		properties.put("csv", csv);
+		properties.readFromString("run = ParallelRun()[runOprops=runOprops, items={'true', 'false', 'true'}, itemName='item', parallelity=1, metrics=json];"
+				+ "seq = SequentialRun({run})[metrics=csv];");
+		try {
+			properties.getObject("seq", Runnable.class).run();
+			Assert.fail("failing task must fail the run");
+		} catch (RuntimeException e) {
+			// expected
+		}
+
+		final String summary = new String(Files.readAllBytes(json.toPath()), UTF8);
+		Assert.assertTrue(summary.contains("\"tasks\": 3,"));
+		Assert.assertTrue(summary.contains("{\"item\": \"false\""));
+		Assert.assertTrue(summary.contains("\"failed\": true"));
+		final List<String> lines = Files.readAllLines(csv.toPath(), UTF8);
+		Assert.assertTrue(lines.get(1).endsWith(",true"));
+		Assert.assertEquals("#failed,,,,1", lines.get(lines.size() - 1));
+	}
+}
@@ -0,0 +1,157 @@
+/*
+* Copyright Siemens AG, 2026
+*
+* Licensed under the Apache License, Version 2.0 the "License";
+* you may not use this file except in compliance with the License.
+* You may obtain a copy of the License at
+*
+* http://www.apache.org/licenses/LICENSE-2.0
+*
+* Unless required by applicable law or agreed to in writing, software
+* distributed under the License is distributed on an "AS IS" BASIS,
+* WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+* See the License for the specific language governing permissions and
+* limitations under the License.
+*/
+
+package com.siemens.oss.omniproperties;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.concurrent.Semaphore;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+public final class ShellExecutorTest {
+
+	private static final String LARGE_STDERR = "yes 0123456789012345678901234567890123456789012345678901234567890123456789"
+			+ " | head -n 4000 >&2; echo done";
+
+	private static Runnable executor(final OmniProperties properties, final String[] command, final String parameters)
+			throws IOException {
+		properties.put("command", command);
+		properties.readFromString("e = ShellExecutor(command)[" + parameters + "];");
+		return properties.getObject("e", Runnable.class);
+	}
+
+	private static Runnable shell(final String script, final String parameters) throws IOException {
+		return executor(OmniProperties.create(), new String[] { "sh", "-c", script }, parameters);
+	}
+
+	@Test(timeout = 60000)
+	public void testLargeStderr() throws IOException {
+		// far more than a pipe buffer is written to STDERR before STDOUT
+		shell(LARGE_STDERR, "timeout=30L, failOnError=true").run();
+
+		final File out = File.createTempFile("stdout", ".txt");
+		out.deleteOnExit();
+		final OmniProperties properties = OmniProperties.create();
+		properties.put("out", out);
+		executor(properties, new String[] { "sh", "-c", LARGE_STDERR }, "timeout=30L, failOnError=true, stdout=out")
+				.run();
+		Assert.assertEquals("done", new String(Files.readAllBytes(out.toPath()), "UTF-8").trim());
+	}
+
+	@Test
+	public void testExitCode() throws IOException {
+		shell("exit 0", "failOnError=true").run();
+		// logged only
+		shell("exit 3", "").run();
+		try {
+			shell("exit 3", "failOnError=true").run();
+			Assert.fail("non-zero exit code must fail");
+		} catch (RuntimeException e) {
+			Assert.assertTrue(e.getMessage(), e.getMessage().contains("exited with code 3"));
+		}
+	}
+
+	@Test(timeout = 60000)
+	public void testTimeout() throws IOException {
+		final long start = System.nanoTime();
+		try {
+			executor(OmniProperties.create(), new String[] { "sleep", "30" }, "timeout=1L, failOnError=true").run();
+			Assert.fail("timeout must fail");
+		} catch (RuntimeException e) {
+			Assert.assertTrue(e.getMessage(), e.getMessage().contains("timed out"));
+		}
+		Assert.assertTrue(System.nanoTime() - start < 20000000000L);
+	}
+
+	@Test(timeout = 60000)
+	public void testTimeoutKillsCommandIgnoringTerm() throws IOException, InterruptedException {
+		final File pid = File.createTempFile("pid", ".txt");
+		pid.deleteOnExit();
+		final OmniProperties properties = OmniProperties.create();
+		properties.put("pid", pid.getAbsolutePath());
+		final Semaphore limit = new Semaphore(1);
+		properties.put("limit", limit);
+		executor(properties, new String[] { "sh", "-c",
+				"echo $$ > \"$0\"; trap '' TERM; while true; do sleep 1; done", pid.getAbsolutePath() },
+				"timeout=1L, limit=limit").run();
+
+		Assert.assertEquals(1, limit.availablePermits());
+		Assert.assertFalse("command must be killed before run() returns", isAlive(read(pid)));
+	}
+
+	@Test(timeout = 60000)
+	public void testChildHoldingOutputOpen() throws IOException, InterruptedException {
+		final File pid = File.createTempFile("pid", ".txt");
+		pid.deleteOnExit();
+		final long start = System.nanoTime();
+		try {
+			// returns at the latest when the timeout is reached, the child keeps running
+			executor(OmniProperties.create(), new String[] { "sh", "-c", "sleep 30 & echo $! > \"$0\"; echo started",
+					pid.getAbsolutePath() }, "timeout=2L").run();
+			Assert.assertTrue(System.nanoTime() - start < 20000000000L);
+			Assert.assertTrue(isAlive(read(pid)));
+		} finally {
+			new ProcessBuilder("kill", read(pid)).start().waitFor();
+		}
+	}
+
+	@Test(timeout = 60000)
+	public void testConcurrencyLimit() throws IOException, InterruptedException {
+		final File marker = new File(Files.createTempDirectory("shell").toFile(), "marker");
+		marker.deleteOnExit();
+		final Semaphore limit = new Semaphore(1);
+
+		final OmniProperties properties = OmniProperties.create();
+		properties.put("limit", limit);
+		final Runnable executor = executor(properties, new String[] { "touch", marker.getAbsolutePath() },
+				"limit=limit, failOnError=true");
+
+		limit.acquire();
+		final Thread thread = new Thread(executor);
+		thread.start();
+		while (!limit.hasQueuedThreads()) {
+			Thread.sleep(10);
+		}
+		Thread.sleep(200);
+		Assert.assertFalse("command must wait for a free slot", marker.exists());
+
+		limit.release();
+		thread.join();
+		Assert.assertTrue(marker.exists());
+		Assert.assertEquals(1, limit.availablePermits());
+	}
+
+	private static String read(final File file) throws IOException {
+		return new String(Files.readAllBytes(file.toPath()), "UTF-8").trim();
+	}
+
+	private static boolean isAlive(final String pid) throws IOException, InterruptedException {
+		return new ProcessBuilder("kill", "-0", pid).start().waitFor() == 0;
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void testEmptyCommand() {
+		new ShellExecutor("  ");
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void testEmptyCommandArray() {
+		new ShellExecutor(new String[0]);
+	}
+}
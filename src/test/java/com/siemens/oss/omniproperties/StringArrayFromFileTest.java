@@ -0,0 +1,56 @@
+/*
+* Copyright Siemens AG, 2026
+*
+* Licensed under the Apache License, Version 2.0 the "License";
+* you may not use this file except in compliance with the License.
+* You may obtain a copy of the License at
+*
+* http://www.apache.org/licenses/LICENSE-2.0
+*
+* Unless required by applicable law or agreed to in writing, software
+* distributed under the License is distributed on an "AS IS" BASIS,
+* WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+* See the License for the specific language governing permissions and
+* limitations under the License.
+*/
+
+package com.siemens.oss.omniproperties;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+public final class StringArrayFromFileTest {
+
+	private static File write(final String content) throws IOException {
+		final File file = File.createTempFile("lines", ".txt");
+		file.deleteOnExit();
+		Files.write(file.toPath(), content.getBytes(StandardCharsets.UTF_8));
+		return file;
+	}
+
+	@Test
+	public void testArrayAndMappedLinesAgree() throws IOException {
+		final OmniProperties properties = OmniProperties.create();
+		properties.put("f1", write("a\nb\r\nc\r\r\n\u00e4\u00f6\u00fc\n"));
+		properties.put("f2", write(""));
+		properties.put("f3", write("x\n\ny"));
+		properties.readFromString("array = StringArrayFromFile({f1, f2, f3})[charset='UTF-8'];"
+				+ "parallel = StringArrayFromFile({f1, f2, f3})[charset='UTF-8', parallelity=3];"
+				+ "lines = LinesFromFile({f1, f2, f3})[charset='UTF-8'];");
+
+		final String[] expected = { "a", "b", "c", "", "\u00e4\u00f6\u00fc", "x", "", "y" };
+		Assert.assertArrayEquals(expected, properties.getObject("array", String[].class));
+		Assert.assertArrayEquals(expected, properties.getObject("parallel", String[].class));
+		@SuppressWarnings("unchecked")
+		final List<String> lines = properties.getObject("lines", List.class);
+		Assert.assertEquals(Arrays.asList(expected), lines);
+		Assert.assertEquals("y", lines.get(7));
+	}
+}
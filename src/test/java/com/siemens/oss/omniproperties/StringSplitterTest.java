@@ -22,6 +22,7 @@ import org.junit.Assert;
 import org.junit.Test;
 
 import com.siemens.oss.omniproperties.OmniProperties;
+import com.siemens.oss.omniproperties.builders.StringSplitter;
 import com.siemens.oss.omniproperties.exceptions.ParseException;
 
 /**
@@ -98,6 +99,35 @@ public final class StringSplitterTest {
 		Assert.assertEquals("test", o1[0]);
 	}
 	
+	@Test
+	public void testSameAsStringSplit() {
+		final String[] strings = { "", ",", "a,,b,,", ",a", " a , b ", "a||b|", "a.b.c", "a1b22c" };
+		final String[] regexes = { ",", "\\|", "|", "\\.", "[0-9]+", "" };
+		for (String string : strings) {
+			for (String regex : regexes) {
+				final String[] expected = string.split(regex);
+				Assert.assertArrayEquals("'" + string + "' split by '" + regex + "'", expected,
+						new StringSplitter(string, regex, false).build());
+			}
+		}
+	}
+
+	@Test
+	public void testNumbers() throws IOException {
+		final OmniProperties properties = OmniProperties.create();
+		properties.readFromString("i = NumberSplitter('1, -2,+3,2147483647');"
+				+ "l = NumberSplitter('9223372036854775807;-9223372036854775808', ';')[type='long'];"
+				+ "d = NumberSplitter('0.5, 1e3')[type='double'];");
+		Assert.assertArrayEquals(new int[] { 1, -2, 3, Integer.MAX_VALUE }, (int[]) properties.get("i"));
+		Assert.assertArrayEquals(new long[] { Long.MAX_VALUE, Long.MIN_VALUE }, (long[]) properties.get("l"));
+		Assert.assertArrayEquals(new double[] { 0.5, 1000.0 }, (double[]) properties.get("d"), 0.0);
+	}
+
+	@Test(expected = NumberFormatException.class)
+	public void testIntOverflow() {
+		new StringSplitter("2147483648").toInts();
+	}
+
 	@Test(expected = ParseException.class)
 	public void testStringSplitterNotOnString() throws IOException {
 		final OmniProperties properties = OmniProperties.create();